@@ -0,0 +1,72 @@
+package com.example.todo.common.handler;
+
+import com.example.todo.domain.TodoStatus;
+import org.apache.ibatis.type.JdbcType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Proxy;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+
+// 조회 결과 한 행마다 실행되는 status 컬럼 <-> TodoStatus 변환 비용
+// ResultSet/PreparedStatement는 값만 돌려주는 프록시이므로 드라이버 비용은 빠져 있음 (프록시 호출 비용은 포함)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TodoStatusTypeHandlerBenchmark {
+
+    private static final TodoStatus[] STATUSES = TodoStatus.values();
+
+    private TodoStatusTypeHandler handler;
+    private ResultSet resultSet;
+    private PreparedStatement preparedStatement;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        handler = new TodoStatusTypeHandler();
+        // 호출할 때마다 다음 상태 문자열을 돌려줌 (JIT가 상수로 접지 못하게)
+        resultSet = (ResultSet) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{ResultSet.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("getString")) {
+                        return STATUSES[next++ % STATUSES.length].name();
+                    }
+                    if (method.getName().equals("wasNull")) {
+                        return false;
+                    }
+                    return null;
+                });
+        preparedStatement = (PreparedStatement) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{PreparedStatement.class},
+                (proxy, method, args) -> null);
+    }
+
+    @Benchmark
+    public TodoStatus fromColumnName() throws SQLException {
+        return handler.getResult(resultSet, "status");
+    }
+
+    @Benchmark
+    public TodoStatus fromColumnIndex() throws SQLException {
+        return handler.getResult(resultSet, 4);
+    }
+
+    @Benchmark
+    public void toParameter() throws SQLException {
+        handler.setParameter(preparedStatement, 1, STATUSES[next++ % STATUSES.length], JdbcType.VARCHAR);
+    }
+}
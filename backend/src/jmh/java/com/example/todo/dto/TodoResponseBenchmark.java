@@ -0,0 +1,78 @@
+package com.example.todo.dto;
+
+import com.example.todo.common.ApiResponseDTO;
+import com.example.todo.domain.TodoStatus;
+import com.example.todo.domain.Todos;
+import com.example.todo.dto.response.PageInfo;
+import com.example.todo.dto.response.PageResponseDTO;
+import com.example.todo.dto.response.TodoResponseDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// 목록 응답 생성 비용
+// toDto: 조회한 Todos 한 건을 응답 DTO로 변환
+// serializePage: ApiResponseDTO<PageResponseDTO<TodoResponseDTO>> 전체를 JSON 바이트로 직렬화
+// ObjectMapper는 스프링 부트와 같은 빌더로 만들어서 날짜 모듈 등 설정을 맞춤
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TodoResponseBenchmark {
+
+    @Param({"10", "100", "1000"})
+    private int pageSize;
+
+    private ObjectMapper objectMapper;
+    private Todos todos;
+    private ApiResponseDTO<PageResponseDTO<TodoResponseDTO>> response;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        LocalDateTime now = LocalDateTime.of(2025, 1, 1, 9, 0);
+        List<TodoResponseDTO> data = new ArrayList<>(pageSize);
+        for (int i = 0; i < pageSize; i++) {
+            Todos row = new Todos();
+            row.setId(i + 1);
+            row.setUserId(1L);
+            row.setTitle("스프링 부트 공부하기 " + i);
+            row.setStatus(i % 3 == 0 ? TodoStatus.DONE : TodoStatus.TODO);
+            row.setCreatedAt(now.minusMinutes(i));
+            row.setCompletedAt(i % 3 == 0 ? now : null);
+            row.setVersion(i % 5);
+            data.add(new TodoResponseDTO(row));
+            todos = row;
+        }
+        PageInfo pageInfo = new PageInfo(1, pageSize, 10000L, (long) Math.ceil(10000.0 / pageSize), true);
+        response = ApiResponseDTO.success(200, "투두 목록 조회 성공", new PageResponseDTO<>(data, pageInfo));
+    }
+
+    @Benchmark
+    public TodoResponseDTO toDto() {
+        return new TodoResponseDTO(todos);
+    }
+
+    @Benchmark
+    public byte[] serializePage() throws Exception {
+        return objectMapper.writeValueAsBytes(response);
+    }
+}
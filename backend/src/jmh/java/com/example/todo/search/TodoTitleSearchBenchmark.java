@@ -0,0 +1,189 @@
+package com.example.todo.search;
+
+import com.example.todo.domain.Todos;
+import com.example.todo.mapper.TodoMapper;
+import com.zaxxer.hikari.HikariDataSource;
+import org.apache.ibatis.builder.xml.XMLMapperBuilder;
+import org.apache.ibatis.io.Resources;
+import org.apache.ibatis.mapping.Environment;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.LocalCacheScope;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactoryBuilder;
+import org.apache.ibatis.transaction.jdbc.JdbcTransactionFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import java.io.InputStream;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// 제목 검색: 실제 매퍼 구문(TodoMapper.xml)으로 MySQL에서 비교
+// - like*: 색인 없이 title LIKE '%keyword%' (사용자 행을 모두 읽음)
+// - index*: n-gram 색인으로 ID를 구한 뒤 id IN (...) 조회, 후보가 max-candidates(1000)를 넘으면 운영과 같이 LIKE로 처리
+// - *Cursor: 커서 첫 페이지(getCursorList), *Page: 전체 개수 + 첫 페이지(getList, includeTotal)
+// 실행: ./gradlew jmh -PjmhIncludes=TodoTitleSearchBenchmark -Pjmh.jdbcUrl=jdbc:mysql://localhost:3306/todo_bench
+// 지정한 DB에 schema.sql을 실행하고 todoCount마다 벤치마크 전용 사용자 한 명의 투두를 채움 (같은 개수면 재사용)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TodoTitleSearchBenchmark {
+
+    private static final String[] WORDS = {
+            "스프링", "부트", "공부하기", "장보기", "운동", "회의", "준비", "보고서", "작성", "정리",
+            "청소", "빨래", "독서", "여행", "계획", "예약", "병원", "은행", "발표", "자료"
+    };
+    private static final int MAX_CANDIDATES = 1000;
+    private static final int PAGE_SIZE = 10;
+
+    @Param({"10000", "100000", "1000000"})
+    private int todoCount;
+
+    // 보고서: 약 10%가 일치, 보고서 작성: 약 0.25%가 일치
+    @Param({"보고서", "보고서 작성"})
+    private String keyword;
+
+    private HikariDataSource dataSource;
+    private SqlSession session;
+    private TodoMapper todoMapper;
+    private UserTitleIndex index;
+    private long userId;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl(System.getProperty("jmh.jdbcUrl",
+                "jdbc:mysql://localhost:3306/todo_bench?createDatabaseIfNotExist=true&serverTimezone=Asia/Seoul&characterEncoding=UTF-8&rewriteBatchedStatements=true"));
+        dataSource.setUsername(System.getProperty("jmh.jdbcUsername", "root"));
+        dataSource.setPassword(System.getProperty("jmh.jdbcPassword", "1234"));
+        new ResourceDatabasePopulator(new ClassPathResource("schema.sql")).execute(dataSource);
+        userId = seed();
+
+        // 애플리케이션과 같은 매퍼 XML, 같은 설정(map-underscore-to-camel-case, 타입 핸들러)
+        // 같은 구문 반복이 세션 캐시로 처리되지 않도록 로컬 캐시는 구문 단위
+        Configuration configuration = new Configuration(new Environment("jmh", new JdbcTransactionFactory(), dataSource));
+        configuration.setMapUnderscoreToCamelCase(true);
+        configuration.setLocalCacheScope(LocalCacheScope.STATEMENT);
+        configuration.getTypeHandlerRegistry().register("com.example.todo.common.handler");
+        try (InputStream in = Resources.getResourceAsStream("mapper/TodoMapper.xml")) {
+            new XMLMapperBuilder(in, configuration, "mapper/TodoMapper.xml", configuration.getSqlFragments()).parse();
+        }
+        session = new SqlSessionFactoryBuilder().build(configuration).openSession(true);
+        todoMapper = session.getMapper(TodoMapper.class);
+
+        index = new UserTitleIndex();
+        todoMapper.findTitlesByUserId(userId, context -> {
+            Todos todos = context.getResultObject();
+            index.put(todos.getId(), todos.getTitle());
+        });
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        session.close();
+        dataSource.close();
+    }
+
+    @Benchmark
+    public List<Todos> likeCursor() {
+        return todoMapper.findByUserIdAfterCursor(userId, null, null, PAGE_SIZE + 1, keyword, null, null, null);
+    }
+
+    @Benchmark
+    public List<Todos> indexCursor() {
+        List<Long> ids = candidates();
+        if (ids != null && ids.isEmpty()) {
+            return List.of();
+        }
+        return todoMapper.findByUserIdAfterCursor(userId, null, null, PAGE_SIZE + 1, keyword, ids, null, null);
+    }
+
+    @Benchmark
+    public List<Todos> likePage() {
+        long total = todoMapper.countByUserId(userId, keyword, null, null, null);
+        return total == 0 ? List.of() : todoMapper.findByUserId(userId, 0, PAGE_SIZE, keyword, null, null, null);
+    }
+
+    @Benchmark
+    public List<Todos> indexPage() {
+        List<Long> ids = candidates();
+        if (ids == null) {
+            return likePage();
+        }
+        // 후보 수가 곧 전체 개수이므로 COUNT(*) 없음
+        return ids.isEmpty() ? List.of() : todoMapper.findByUserId(userId, 0, PAGE_SIZE, keyword, ids, null, null);
+    }
+
+    // TodoTitleIndex.search와 같이 후보가 많으면 null (LIKE로 처리)
+    private List<Long> candidates() {
+        List<Long> ids = index.search(keyword);
+        return ids != null && ids.size() > MAX_CANDIDATES ? null : ids;
+    }
+
+    // todoCount개의 투두를 가진 벤치마크 사용자 (이미 같은 개수로 채워져 있으면 그대로 사용)
+    private long seed() throws SQLException {
+        String email = "title-search-" + todoCount + "@jmh.local";
+        try (Connection connection = dataSource.getConnection()) {
+            long id;
+            try (PreparedStatement insert = connection.prepareStatement(
+                    "INSERT IGNORE INTO users(email, password) VALUES (?, '-')")) {
+                insert.setString(1, email);
+                insert.executeUpdate();
+            }
+            try (PreparedStatement select = connection.prepareStatement("SELECT id FROM users WHERE email = ?")) {
+                select.setString(1, email);
+                try (ResultSet rs = select.executeQuery()) {
+                    rs.next();
+                    id = rs.getLong(1);
+                }
+            }
+            try (Statement count = connection.createStatement();
+                 ResultSet rs = count.executeQuery("SELECT COUNT(*) FROM todos WHERE user_id = " + id)) {
+                rs.next();
+                if (rs.getLong(1) == todoCount) {
+                    return id;
+                }
+            }
+            try (Statement delete = connection.createStatement()) {
+                delete.executeUpdate("DELETE FROM todos WHERE user_id = " + id);
+            }
+            Random random = new Random(42);
+            try (PreparedStatement insert = connection.prepareStatement(
+                    "INSERT INTO todos(user_id, title, created_at) VALUES (?, ?, TIMESTAMPADD(SECOND, ?, '2025-01-01'))")) {
+                for (int i = 0; i < todoCount; i++) {
+                    insert.setLong(1, id);
+                    insert.setString(2, WORDS[random.nextInt(WORDS.length)] + " " + WORDS[random.nextInt(WORDS.length)] + " " + i);
+                    insert.setInt(3, i);
+                    insert.addBatch();
+                    if ((i + 1) % 1000 == 0) {
+                        insert.executeBatch();
+                    }
+                }
+                insert.executeBatch();
+            }
+            return id;
+        }
+    }
+}
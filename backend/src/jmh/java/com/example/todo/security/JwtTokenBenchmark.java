@@ -0,0 +1,52 @@
+package com.example.todo.security;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+// 로그인/재발급/인증 필터에서 매번 실행되는 토큰 생성과 subject 추출 비용
+// getSubject는 검증 캐시를 거치므로 필터에서 같은 토큰이 반복될 때의 비용
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtTokenBenchmark {
+
+    private static final String SECRET = "V+g+T1Vt4PpAgKmaYrcU7KqEq8vFZt7uhZDDnT/0la4=";
+
+    private JwtTokenProvider provider;
+    private String accessToken;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        provider = new JwtTokenProvider(SECRET, 3600000, 604800000, 100000);
+        accessToken = provider.generateAccessToekn(1L, "email@email.com");
+    }
+
+    @Benchmark
+    public String generateAccessToken() {
+        return provider.generateAccessToekn(1L, "email@email.com");
+    }
+
+    @Benchmark
+    public String generateRefreshToken() {
+        return provider.generateRefreshToken(1L);
+    }
+
+    @Benchmark
+    public String getSubject() {
+        return provider.getSubject(accessToken);
+    }
+}
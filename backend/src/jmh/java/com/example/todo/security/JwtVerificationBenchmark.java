@@ -0,0 +1,68 @@
+package com.example.todo.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+// 액세스 토큰 검증 비용 비교
+// legacy: 요청마다 파서를 새로 만들고 두 번 파싱하던 기존 필터 동작
+// cold: 재사용 파서로 한 번 파싱 (캐시 미스)
+// hot: 같은 토큰 재검증 (캐시 히트)
+// 실행: ./gradlew jmh -PjmhIncludes=JwtVerificationBenchmark (결과: build/results/jmh/results.json)
+// 측정값 없음: 이 벤치마크를 추가한 환경에서는 의존성을 받을 수 없어 실행하지 못함, 검증 비용 개선 수치는 아직 확인되지 않음
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtVerificationBenchmark {
+
+    private static final String SECRET = "V+g+T1Vt4PpAgKmaYrcU7KqEq8vFZt7uhZDDnT/0la4=";
+
+    private JwtTokenProvider provider;
+    private SecretKey key;
+    private String token;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        provider = new JwtTokenProvider(SECRET, 3600000, 604800000, 100000);
+        key = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+        token = provider.generateAccessToekn(1L, "email@email.com");
+        provider.verify(token);
+    }
+
+    @Benchmark
+    public String legacy() {
+        Claims first = Jwts.parser().verifyWith(key).build().parseSignedClaims(token).getPayload();
+        if (first.getSubject() == null) {
+            return null;
+        }
+        return Jwts.parser().verifyWith(key).build().parseSignedClaims(token).getPayload().getSubject();
+    }
+
+    @Benchmark
+    public VerifiedToken cold() {
+        return provider.parse(token);
+    }
+
+    @Benchmark
+    public VerifiedToken hot() {
+        return provider.verify(token);
+    }
+}
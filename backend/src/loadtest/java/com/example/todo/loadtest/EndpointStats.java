@@ -0,0 +1,55 @@
+package com.example.todo.loadtest;
+
+import org.HdrHistogram.Histogram;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// 엔드포인트 하나의 지연 히스토그램(마이크로초)과 오류 수
+// 워커 스레드마다 따로 기록하고 끝난 뒤 합치므로 동기화하지 않음
+class EndpointStats {
+    private static final long HIGHEST_TRACKABLE_MICROS = 60_000_000L;
+
+    private final Histogram histogram = new Histogram(HIGHEST_TRACKABLE_MICROS, 3);
+    private long errors;
+
+    void record(long elapsedNanos, boolean error) {
+        histogram.recordValue(Math.min(Math.max(elapsedNanos / 1000, 1), HIGHEST_TRACKABLE_MICROS));
+        if (error) {
+            errors++;
+        }
+    }
+
+    void add(EndpointStats other) {
+        histogram.add(other.histogram);
+        errors += other.errors;
+    }
+
+    void reset() {
+        histogram.reset();
+        errors = 0;
+    }
+
+    // 실행 결과 비교(diff)가 쉽도록 키 순서를 고정하고 밀리초 소수점 3자리로 반올림
+    Map<String, Object> toReport(double seconds) {
+        Map<String, Object> report = new LinkedHashMap<>();
+        long count = histogram.getTotalCount();
+        report.put("count", count);
+        report.put("errors", errors);
+        report.put("throughputPerSec", round(count / seconds));
+        report.put("meanMs", round(histogram.getMean() / 1000.0));
+        report.put("p50Ms", millis(histogram.getValueAtPercentile(50)));
+        report.put("p99Ms", millis(histogram.getValueAtPercentile(99)));
+        report.put("p999Ms", millis(histogram.getValueAtPercentile(99.9)));
+        report.put("maxMs", millis(histogram.getMaxValue()));
+        return report;
+    }
+
+    private static double millis(long micros) {
+        return round(micros / 1000.0);
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 1000) / 1000.0;
+    }
+}
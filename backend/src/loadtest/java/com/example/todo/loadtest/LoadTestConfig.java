@@ -0,0 +1,34 @@
+package com.example.todo.loadtest;
+
+// 부하 테스트 설정 (gradle loadTest 태스크가 -Ploadtest.xxx 값을 시스템 프로퍼티로 전달)
+public record LoadTestConfig(int users,
+                             int todosPerUser,
+                             int concurrency,
+                             int warmupSeconds,
+                             int durationSeconds,
+                             long seed,
+                             String jdbcUrl,
+                             String jdbcUsername,
+                             String jdbcPassword,
+                             String profiles,
+                             String output) {
+
+    static LoadTestConfig fromSystemProperties() {
+        return new LoadTestConfig(
+                Integer.getInteger("loadtest.users", 100),
+                Integer.getInteger("loadtest.todosPerUser", 200),
+                Integer.getInteger("loadtest.concurrency", 16),
+                Integer.getInteger("loadtest.warmupSeconds", 10),
+                Integer.getInteger("loadtest.durationSeconds", 60),
+                Long.getLong("loadtest.seed", 42L),
+                blankToNull(System.getProperty("loadtest.jdbcUrl")),
+                System.getProperty("loadtest.jdbcUsername", "root"),
+                System.getProperty("loadtest.jdbcPassword", "1234"),
+                blankToNull(System.getProperty("loadtest.profiles")),
+                System.getProperty("loadtest.output", "build/reports/loadtest/result.json"));
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value;
+    }
+}
@@ -0,0 +1,373 @@
+package com.example.todo.loadtest;
+
+import com.example.todo.TodoApplication;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.testcontainers.containers.MySQLContainer;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+
+// 전체 흐름 부하 테스트: ./gradlew loadTest -Ploadtest.users=100 -Ploadtest.concurrency=32 ...
+// 1. MySQL(Testcontainers, -Ploadtest.jdbcUrl을 주면 그 DB)에 애플리케이션을 같은 JVM에서 띄움
+// 2. 사용자 N명과 사용자별 투두 M개를 JDBC로 직접 넣음
+// 3. 워커(concurrency개)가 로그인/재발급/목록(검색, 기간)/생성/수정/삭제를 비율대로 섞어서 호출
+// 4. 엔드포인트별 HdrHistogram p50/p99/p999와 처리량을 JSON으로 저장 (실행 간 diff 용)
+// 부하 발생기와 서버가 같은 JVM/CPU를 쓰므로 절대값보다 같은 조건에서의 실행 간 비교용으로 사용
+public class LoadTestRunner {
+    static final String PASSWORD = "password1234";
+    static final String[] WORDS = {
+            "스프링", "부트", "공부하기", "장보기", "운동", "회의", "준비", "보고서", "작성", "정리",
+            "청소", "빨래", "독서", "여행", "계획", "예약", "병원", "은행", "발표", "자료"
+    };
+    static final String[] STATUSES = {"TODO", "IN_PROGRESS", "DONE"};
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.fromSystemProperties();
+
+        MySQLContainer<?> mysql = null;
+        String url = config.jdbcUrl();
+        String username = config.jdbcUsername();
+        String password = config.jdbcPassword();
+        if (url == null) {
+            mysql = new MySQLContainer<>("mysql:8.4")
+                    .withDatabaseName("todo")
+                    .withUrlParam("serverTimezone", "Asia/Seoul")
+                    .withUrlParam("characterEncoding", "UTF-8")
+                    .withUrlParam("rewriteBatchedStatements", "true");
+            mysql.start();
+            url = mysql.getJdbcUrl();
+            username = mysql.getUsername();
+            password = mysql.getPassword();
+        }
+
+        // 비교할 실행 모드는 프로필로 지정 (예: virtual)
+        try (ConfigurableApplicationContext app = new SpringApplicationBuilder(TodoApplication.class).run(
+                "--spring.profiles.active=" + (config.profiles() == null ? "" : config.profiles()),
+                "--server.port=0",
+                "--spring.datasource.url=" + url,
+                "--spring.datasource.username=" + username,
+                "--spring.datasource.password=" + password,
+                "--todo.sql-log.sample-rate=0",
+                "--logging.level.root=WARN")) {
+            int port = Integer.parseInt(app.getEnvironment().getProperty("local.server.port"));
+            String passwordHash = app.getBean(BCryptPasswordEncoder.class).encode(PASSWORD);
+            List<LoadTestUser> users = seed(app.getBean(JdbcTemplate.class), config, passwordHash);
+
+            Map<String, Object> report = run(config, "http://localhost:" + port, users);
+            Path output = Path.of(config.output());
+            Files.createDirectories(output.toAbsolutePath().getParent());
+            objectMapper.writerWithDefaultPrettyPrinter().writeValue(output.toFile(), report);
+            System.out.println(objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(report));
+            System.out.println("Load test report written to " + output.toAbsolutePath());
+        } finally {
+            if (mysql != null) {
+                mysql.stop();
+            }
+        }
+    }
+
+    // 사용자/투두 생성 (이전 실행과 이메일이 겹치지 않도록 실행마다 접두어를 바꿈)
+    private static List<LoadTestUser> seed(JdbcTemplate jdbc, LoadTestConfig config, String passwordHash) {
+        long start = System.currentTimeMillis();
+        String prefix = "lt" + Long.toString(start, 36) + "-";
+        List<Object[]> userRows = new ArrayList<>(config.users());
+        for (int i = 0; i < config.users(); i++) {
+            userRows.add(new Object[]{prefix + i + "@example.com", passwordHash});
+        }
+        jdbc.batchUpdate("INSERT INTO users (email, password) VALUES (?, ?)", userRows);
+
+        List<LoadTestUser> users = new ArrayList<>(config.users());
+        Map<Long, LoadTestUser> byId = new HashMap<>();
+        jdbc.query("SELECT id, email FROM users WHERE email LIKE ? ORDER BY id", rs -> {
+            LoadTestUser user = new LoadTestUser(rs.getLong("id"), rs.getString("email"));
+            users.add(user);
+            byId.put(user.id, user);
+        }, prefix + "%");
+
+        Random random = new Random(config.seed());
+        LocalDateTime now = LocalDateTime.now();
+        List<Object[]> todoRows = new ArrayList<>(1000);
+        for (LoadTestUser user : users) {
+            for (int i = 0; i < config.todosPerUser(); i++) {
+                String status = STATUSES[random.nextInt(STATUSES.length)];
+                LocalDateTime createdAt = now.minusMinutes(random.nextInt(90 * 24 * 60));
+                Timestamp completedAt = status.equals("DONE") ? Timestamp.valueOf(createdAt.plusHours(random.nextInt(72))) : null;
+                todoRows.add(new Object[]{user.id, title(random), status, Timestamp.valueOf(createdAt), completedAt});
+                if (todoRows.size() == 1000) {
+                    insertTodos(jdbc, todoRows);
+                }
+            }
+        }
+        insertTodos(jdbc, todoRows);
+
+        jdbc.query("SELECT id, user_id FROM todos WHERE user_id BETWEEN ? AND ?", rs -> {
+            LoadTestUser user = byId.get(rs.getLong("user_id"));
+            if (user != null) {
+                user.todoIds.add(rs.getLong("id"));
+            }
+        }, users.get(0).id, users.get(users.size() - 1).id);
+
+        System.out.printf("Seeded %d users x %d todos in %d ms%n", config.users(), config.todosPerUser(), System.currentTimeMillis() - start);
+        return users;
+    }
+
+    private static void insertTodos(JdbcTemplate jdbc, List<Object[]> rows) {
+        if (!rows.isEmpty()) {
+            jdbc.batchUpdate("INSERT INTO todos (user_id, title, status, created_at, completed_at) VALUES (?, ?, ?, ?, ?)", rows);
+            rows.clear();
+        }
+    }
+
+    static String title(Random random) {
+        return WORDS[random.nextInt(WORDS.length)] + " " + WORDS[random.nextInt(WORDS.length)] + " " + random.nextInt(10000);
+    }
+
+    // 워커마다 담당 사용자를 나눠서(같은 사용자의 리프레시 토큰/투두 목록을 한 워커만 사용) 실행
+    private static Map<String, Object> run(LoadTestConfig config, String baseUrl, List<LoadTestUser> users) throws InterruptedException {
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        Phase phase = new Phase();
+        List<Worker> workers = new ArrayList<>();
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < config.concurrency(); i++) {
+            List<LoadTestUser> assigned = new ArrayList<>();
+            for (int u = i; u < users.size(); u += config.concurrency()) {
+                assigned.add(users.get(u));
+            }
+            if (assigned.isEmpty()) {
+                break;
+            }
+            Worker worker = new Worker(client, baseUrl, assigned, new Random(config.seed() + i), phase);
+            workers.add(worker);
+            Thread thread = new Thread(worker, "loadtest-" + i);
+            threads.add(thread);
+            thread.start();
+        }
+
+        Thread.sleep(config.warmupSeconds() * 1000L);
+        phase.value = Phase.MEASURE;
+        long measureStart = System.nanoTime();
+        Thread.sleep(config.durationSeconds() * 1000L);
+        phase.value = Phase.STOP;
+        double seconds = (System.nanoTime() - measureStart) / 1_000_000_000.0;
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        Map<String, EndpointStats> merged = new TreeMap<>();
+        EndpointStats total = new EndpointStats();
+        for (Worker worker : workers) {
+            worker.stats.forEach((endpoint, stats) -> {
+                merged.computeIfAbsent(endpoint, e -> new EndpointStats()).add(stats);
+                total.add(stats);
+            });
+        }
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        Map<String, Object> configReport = new LinkedHashMap<>();
+        configReport.put("users", config.users());
+        configReport.put("todosPerUser", config.todosPerUser());
+        configReport.put("concurrency", workers.size());
+        configReport.put("warmupSeconds", config.warmupSeconds());
+        configReport.put("durationSeconds", config.durationSeconds());
+        configReport.put("seed", config.seed());
+        configReport.put("availableProcessors", Runtime.getRuntime().availableProcessors());
+        configReport.put("javaVersion", System.getProperty("java.version"));
+        configReport.put("profiles", config.profiles());
+        report.put("config", configReport);
+        report.put("total", total.toReport(seconds));
+        Map<String, Object> endpoints = new LinkedHashMap<>();
+        merged.forEach((endpoint, stats) -> endpoints.put(endpoint, stats.toReport(seconds)));
+        report.put("endpoints", endpoints);
+        return report;
+    }
+
+    static class Phase {
+        static final int WARMUP = 0;
+        static final int MEASURE = 1;
+        static final int STOP = 2;
+        volatile int value = WARMUP;
+    }
+
+    static class LoadTestUser {
+        final long id;
+        final String email;
+        final List<Long> todoIds = new ArrayList<>();
+        String accessToken;
+        String refreshToken;
+
+        LoadTestUser(long id, String email) {
+            this.id = id;
+            this.email = email;
+        }
+    }
+
+    // 요청 비율: 목록 50, 생성 15, 수정 17, 삭제 10, 재발급 5, 로그인 3
+    static class Worker implements Runnable {
+        private final HttpClient client;
+        private final String baseUrl;
+        private final List<LoadTestUser> users;
+        private final Random random;
+        private final Phase phase;
+        private final Map<String, EndpointStats> stats = new HashMap<>();
+
+        Worker(HttpClient client, String baseUrl, List<LoadTestUser> users, Random random, Phase phase) {
+            this.client = client;
+            this.baseUrl = baseUrl;
+            this.users = users;
+            this.random = random;
+            this.phase = phase;
+        }
+
+        @Override
+        public void run() {
+            while (phase.value != Phase.STOP) {
+                LoadTestUser user = users.get(random.nextInt(users.size()));
+                if (user.accessToken == null) {
+                    login(user);
+                    continue;
+                }
+                int pick = random.nextInt(100);
+                if (pick < 50) {
+                    list(user);
+                } else if (pick < 65 || user.todoIds.isEmpty()) {
+                    create(user);
+                } else if (pick < 82) {
+                    update(user);
+                } else if (pick < 92) {
+                    delete(user);
+                } else if (pick < 97) {
+                    refresh(user);
+                } else {
+                    login(user);
+                }
+            }
+        }
+
+        private void login(LoadTestUser user) {
+            String body = "{\"email\":\"" + user.email + "\",\"password\":\"" + PASSWORD + "\"}";
+            JsonNode data = call("POST /api/auth/login", post("/api/auth/login", null, body));
+            if (data != null) {
+                user.accessToken = data.path("accessToken").asText();
+                user.refreshToken = data.path("refreshToken").asText();
+            }
+        }
+
+        private void refresh(LoadTestUser user) {
+            String body = "{\"refreshToken\":\"" + user.refreshToken + "\"}";
+            JsonNode data = call("POST /api/auth/refresh", post("/api/auth/refresh", null, body));
+            if (data != null && data.hasNonNull("accessToken")) {
+                user.accessToken = data.path("accessToken").asText();
+            }
+        }
+
+        // 필터 없음 40%, 키워드 30%, 키워드 + 30일 기간 30%
+        private void list(LoadTestUser user) {
+            StringBuilder query = new StringBuilder("/api/todos?size=20&page=").append(1 + random.nextInt(3));
+            int filter = random.nextInt(10);
+            if (filter >= 4) {
+                query.append("&keyword=").append(URLEncoder.encode(WORDS[random.nextInt(WORDS.length)], StandardCharsets.UTF_8));
+            }
+            if (filter >= 7) {
+                LocalDate end = LocalDate.now().minusDays(random.nextInt(60));
+                query.append("&startDate=").append(end.minusDays(30)).append("&endDate=").append(end);
+            }
+            call("GET /api/todos", request(query.toString(), user).GET().build());
+        }
+
+        private void create(LoadTestUser user) {
+            String body = "{\"title\":\"" + title(random) + "\"}";
+            JsonNode data = call("POST /api/todos", post("/api/todos", user, body));
+            if (data != null && data.has("id")) {
+                user.todoIds.add(data.path("id").asLong());
+            }
+        }
+
+        private void update(LoadTestUser user) {
+            long id = user.todoIds.get(random.nextInt(user.todoIds.size()));
+            String body = "{\"status\":\"" + STATUSES[random.nextInt(STATUSES.length)] + "\"}";
+            call("PUT /api/todos/{id}", request("/api/todos/" + id, user)
+                    .header("Content-Type", "application/json")
+                    .PUT(HttpRequest.BodyPublishers.ofString(body)).build());
+        }
+
+        private void delete(LoadTestUser user) {
+            int index = random.nextInt(user.todoIds.size());
+            long id = user.todoIds.get(index);
+            user.todoIds.set(index, user.todoIds.get(user.todoIds.size() - 1));
+            user.todoIds.remove(user.todoIds.size() - 1);
+            call("DELETE /api/todos/{id}", request("/api/todos/" + id, user).DELETE().build());
+        }
+
+        private HttpRequest.Builder request(String path, LoadTestUser user) {
+            HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path)).timeout(Duration.ofSeconds(30));
+            if (user != null) {
+                builder.header("Authorization", "Bearer " + user.accessToken);
+            }
+            return builder;
+        }
+
+        private HttpRequest post(String path, LoadTestUser user, String body) {
+            return request(path, user)
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(body))
+                    .build();
+        }
+
+        // 요청 전후가 모두 측정 구간일 때만 기록, 성공하면 응답의 data 반환
+        private JsonNode call(String endpoint, HttpRequest request) {
+            boolean measuring = phase.value == Phase.MEASURE;
+            long start = System.nanoTime();
+            HttpResponse<String> response = null;
+            try {
+                response = client.send(request, HttpResponse.BodyHandlers.ofString());
+            } catch (IOException e) {
+                // 연결 실패 등은 오류로 기록
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                phase.value = Phase.STOP;
+            }
+            long elapsed = System.nanoTime() - start;
+            boolean error = response == null || response.statusCode() >= 400;
+            if (measuring && phase.value == Phase.MEASURE) {
+                stats.computeIfAbsent(endpoint, e -> new EndpointStats()).record(elapsed, error);
+            }
+            if (error) {
+                return null;
+            }
+            try {
+                return objectMapper.readTree(response.body()).path("data");
+            } catch (IOException e) {
+                return null;
+            }
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.example.todo.cache;
+
+import com.example.todo.event.TodoChangedEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+// 투두 목록/상세 조회 결과 캐시 (사용자별)
+// 키에 사용자 버전(todo_counters.change_seq)이 들어가므로 어느 서버에서든 쓰기가 커밋되면 그 사용자의 이전 결과는 다시 쓰이지 않음
+// 남은 항목은 이 서버의 커밋 후 사용자 단위로 정리하고, 그 외에는 크기(W-TinyLFU)와 TTL로 제거
+@Component
+public class TodoReadCache {
+    private final boolean enabled;
+    private final Cache<Key, Object> cache;
+    private final ConcurrentMap<Long, Set<Key>> keysByUser = new ConcurrentHashMap<>();
+    private final TodoVersionTracker todoVersionTracker;
+    private final TransactionTemplate readOnlyTransaction;
+
+    public TodoReadCache(@Value("${todo.cache.enabled:true}") boolean enabled,
+                         @Value("${todo.cache.max-size:10000}") long maxSize,
+                         @Value("${todo.cache.ttl-seconds:30}") long ttlSeconds,
+                         MeterRegistry meterRegistry,
+                         TodoVersionTracker todoVersionTracker,
+                         PlatformTransactionManager transactionManager) {
+        this.enabled = enabled;
+        this.todoVersionTracker = todoVersionTracker;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        // 크기/TTL로 제거될 때 사용자별 키 목록에서도 뺌 (invalidate는 키 목록을 먼저 지우므로 제외)
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .evictionListener((Key key, Object value, RemovalCause cause) -> {
+                    if (key != null) {
+                        forget(key);
+                    }
+                })
+                .build();
+        // cache.gets(hit/miss), cache.evictions 등 등록
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "todo.read");
+    }
+
+    // version: 요청에서 먼저 읽은 사용자 버전 (304 확인에 쓴 값), 캐시에 있으면 DB를 읽지 않음
+    // 없으면 읽기 전용 트랜잭션 하나에서 버전과 데이터를 함께 읽어 그 버전으로 저장
+    // 같은 커넥션의 같은 스냅샷(REPEATABLE READ)이므로 그 사이 다른 서버의 커밋이 있어도 키의 버전과 데이터가 항상 같은 시점
+    @SuppressWarnings("unchecked")
+    public <T> Versioned<T> get(long userId, long version, String query, Supplier<T> loader) {
+        if (enabled) {
+            T value = (T) cache.getIfPresent(new Key(userId, version, query));
+            if (value != null) {
+                return new Versioned<>(version, value);
+            }
+        }
+        // cache.get(key, loader)는 조회를 synchronized 구간 안에서 실행해 가상 스레드가 고정되므로 조회는 밖에서 하고 결과만 저장
+        Versioned<T> loaded = readOnlyTransaction.execute(status -> new Versioned<>(todoVersionTracker.current(userId), loader.get()));
+        if (enabled) {
+            Key key = new Key(userId, loaded.version(), query);
+            keysByUser.computeIfAbsent(userId, id -> ConcurrentHashMap.newKeySet()).add(key);
+            cache.put(key, loaded.value());
+        }
+        return loaded;
+    }
+
+    // 쓰기 커밋 후 해당 사용자의 항목만 제거
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTodoChanged(TodoChangedEvent event) {
+        invalidate(event.getUserId());
+    }
+
+    public void invalidate(long userId) {
+        Set<Key> keys = keysByUser.remove(userId);
+        if (keys != null) {
+            cache.invalidateAll(keys);
+        }
+    }
+
+    private void forget(Key key) {
+        keysByUser.computeIfPresent(key.userId(), (id, keys) -> {
+            keys.remove(key);
+            return keys.isEmpty() ? null : keys;
+        });
+    }
+
+    // 크기/TTL 제거를 바로 실행 (테스트용)
+    void cleanUp() {
+        cache.cleanUp();
+    }
+
+    // 사용자별 키 목록에 남은 개수 (테스트용)
+    int trackedKeys(long userId) {
+        Set<Key> keys = keysByUser.get(userId);
+        return keys == null ? 0 : keys.size();
+    }
+
+    // 조회 결과와 그 결과를 읽은 시점의 사용자 버전 (ETag는 이 버전으로 만듦)
+    public record Versioned<T>(long version, T value) {
+    }
+
+    private record Key(long userId, long version, String query) {
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.todo.cache;
+
+import com.example.todo.mapper.TodoCounterMapper;
+import com.example.todo.util.TokenDigest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+
+// 사용자별 투두 변경 버전 = todo_counters.change_seq (투두를 쓸 때마다 같은 트랜잭션에서 증가)
+// 목록/상세 ETag를 이 버전으로 만들어서, 변경이 없으면 todos 테이블을 읽지 않고 304로 응답
+// DB 값이므로 어느 서버에서 쓴 변경이든 모든 서버의 ETag에 반영되고 재시작해도 유지됨
+@Component
+@RequiredArgsConstructor
+public class TodoVersionTracker {
+    private final TodoCounterMapper todoCounterMapper;
+
+    // 기본 키 조회 한 번 (집계 행이 아직 없으면 쓴 적이 없으므로 0)
+    // 읽기 전용이라 다른 조회처럼 복제본으로 가고, 최근에 쓴 사용자는 주 DB에서 읽음
+    @Transactional(readOnly = true)
+    public long current(long userId) {
+        Long changeSeq = todoCounterMapper.findChangeSeq(userId);
+        return changeSeq == null ? 0 : changeSeq;
+    }
+
+    // 목록 조회 조건 문자열 (ETag와 조회 캐시 키에 사용)
+    public static String listQuery(int page, int size, String cursor, String keyword,
+                                   LocalDate startDate, LocalDate endDate, boolean includeTotal) {
+        return page + "|" + size + "|" + cursor + "|" + keyword + "|" + startDate + "|" + endDate + "|" + includeTotal;
+    }
+
+    // 목록 ETag: 사용자 버전 + 조회 조건
+    public String listEtag(long version, String query) {
+        return "W/\"" + version + "-" + TokenDigest.sha256(query).substring(0, 16) + "\"";
+    }
+
+    // 상세 ETag: 사용자 버전 + 투두 ID + 투두 버전 (If-Match에서는 마지막 투두 버전만 사용)
+    // 같은 표현을 바이트 단위로 보장하지 않으므로 목록과 같이 약한 ETag
+    public String detailEtag(long version, long todoId, long todoVersion) {
+        return "W/\"" + version + "-" + todoId + "-" + todoVersion + "\"";
+    }
+
+    // If-None-Match(쉼표로 구분한 여러 ETag)에 사용자 버전 version의 이 투두 상세 ETag가 있으면 그 값(약한 ETag 형식), 없으면 null
+    // 약한 비교이므로 W/ 유무는 무시, *는 투두가 있는지 알아야 하므로 여기서는 처리하지 않음 (isWildcard)
+    public String unchangedDetailEtag(long version, long todoId, String ifNoneMatch) {
+        if (ifNoneMatch == null) {
+            return null;
+        }
+        String prefix = "\"" + version + "-" + todoId + "-";
+        for (String tag : ifNoneMatch.split(",")) {
+            String opaque = tag.trim();
+            if (opaque.startsWith("W/")) {
+                opaque = opaque.substring(2);
+            }
+            if (opaque.startsWith(prefix) && opaque.endsWith("\"") && opaque.length() > prefix.length() + 1) {
+                return "W/" + opaque;
+            }
+        }
+        return null;
+    }
+
+    // If-None-Match: * (현재 표현이 있으면 304)
+    public static boolean isWildcard(String ifNoneMatch) {
+        return ifNoneMatch != null && ifNoneMatch.trim().equals("*");
+    }
+}
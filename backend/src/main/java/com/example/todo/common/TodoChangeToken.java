@@ -0,0 +1,39 @@
+package com.example.todo.common;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+// 변경분 동기화 위치 정보 (마지막으로 받은 변경의 change_seq, id)
+// 클라이언트에는 Base64 URL 문자열로만 노출해서 내부 구조를 숨김
+@Getter
+@AllArgsConstructor
+public class TodoChangeToken {
+    private static final String SEPARATOR = "_";
+
+    // since 없이 요청한 경우 (처음부터 전체)
+    public static final TodoChangeToken INITIAL = new TodoChangeToken(-1, 0);
+
+    private long changeSeq;
+    private long id;
+
+    public String encode() {
+        String raw = changeSeq + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 형식이 맞지 않으면 IllegalArgumentException 발생
+    public static TodoChangeToken decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int idx = raw.lastIndexOf(SEPARATOR);
+            long changeSeq = Long.parseLong(raw.substring(0, idx));
+            long id = Long.parseLong(raw.substring(idx + 1));
+            return new TodoChangeToken(changeSeq, id);
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("유효하지 않은 동기화 토큰입니다.");
+        }
+    }
+}
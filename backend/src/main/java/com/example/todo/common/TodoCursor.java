@@ -0,0 +1,39 @@
+package com.example.todo.common;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+// 커서 기반 페이징에 사용하는 (created_at, id) 위치 정보
+// 클라이언트에는 Base64 URL 문자열로만 노출해서 내부 구조를 숨김
+@Getter
+@AllArgsConstructor
+public class TodoCursor {
+    private static final String SEPARATOR = "_";
+
+    private LocalDateTime createdAt;
+    private long id;
+
+    // 커서 -> 불투명 문자열
+    public String encode() {
+        String raw = createdAt + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 불투명 문자열 -> 커서 (형식이 맞지 않으면 IllegalArgumentException 발생)
+    public static TodoCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int idx = raw.lastIndexOf(SEPARATOR);
+            LocalDateTime createdAt = LocalDateTime.parse(raw.substring(0, idx));
+            long id = Long.parseLong(raw.substring(idx + 1));
+            return new TodoCursor(createdAt, id);
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new IllegalArgumentException("유효하지 않은 커서입니다.");
+        }
+    }
+}
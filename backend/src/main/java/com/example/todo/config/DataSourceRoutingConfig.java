@@ -0,0 +1,61 @@
+package com.example.todo.config;
+
+import com.example.todo.datasource.ReadWriteRoutingDataSource;
+import com.example.todo.datasource.ReadYourWritesTracker;
+import com.example.todo.datasource.ReplicaSet;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.List;
+
+// 읽기/쓰기 분리 (todo.datasource.routing.enabled=true일 때만)
+// 주 DB는 spring.datasource.*, 복제본은 todo.datasource.routing.replica-urls로 설정
+// 켜지 않으면 스프링 부트 기본 DataSource 하나만 사용
+@Configuration
+@ConditionalOnProperty(name = "todo.datasource.routing.enabled", havingValue = "true")
+public class DataSourceRoutingConfig {
+
+    // 주 DB 커넥션 풀 (spring.datasource.hikari.* 설정 적용)
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean(destroyMethod = "close")
+    public ReplicaSet replicaSet(DataSourceProperties properties,
+                                 @Value("${todo.datasource.routing.replica-urls}") List<String> urls,
+                                 @Value("${todo.datasource.routing.replica-username:${spring.datasource.username}}") String username,
+                                 @Value("${todo.datasource.routing.replica-password:${spring.datasource.password}}") String password,
+                                 @Value("${todo.datasource.routing.replica-pool-size:10}") int poolSize,
+                                 @Value("${todo.datasource.routing.max-lag-seconds:2}") long maxLagSeconds,
+                                 @Value("${todo.datasource.routing.assume-zero-lag-when-unknown:false}") boolean assumeZeroLagWhenUnknown,
+                                 MeterRegistry meterRegistry) {
+        return new ReplicaSet(urls, username, password, properties.determineDriverClassName(), poolSize, maxLagSeconds,
+                assumeZeroLagWhenUnknown, meterRegistry);
+    }
+
+    @Bean
+    public ReadYourWritesTracker readYourWritesTracker(@Value("${todo.datasource.routing.sticky-window-ms:5000}") long windowMs) {
+        return new ReadYourWritesTracker(Duration.ofMillis(windowMs), 100_000);
+    }
+
+    // MyBatis, 트랜잭션 매니저, schema.sql 초기화 모두 이 DataSource를 사용 (트랜잭션 밖 실행은 주 DB)
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource primaryDataSource, ReplicaSet replicaSet,
+                                 ReadYourWritesTracker readYourWritesTracker, MeterRegistry meterRegistry) {
+        return new LazyConnectionDataSourceProxy(
+                new ReadWriteRoutingDataSource(primaryDataSource, replicaSet, readYourWritesTracker, meterRegistry));
+    }
+}
@@ -0,0 +1,106 @@
+package com.example.todo.config;
+
+import com.example.todo.datasource.ReshardCommand;
+import com.example.todo.datasource.ShardRouter;
+import com.example.todo.datasource.ShardRoutingDataSource;
+import com.example.todo.datasource.ShardRoutingInterceptor;
+import com.example.todo.datasource.UserShardMover;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.init.DatabasePopulatorUtils;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.List;
+
+// 사용자 ID 기준 샤딩 (todo.datasource.sharding.enabled=true일 때만)
+// 전역 DB(spring.datasource.*): users, user_shards(샤드 디렉터리)
+// 샤드(todo.datasource.sharding.shard-urls): todos, todo_counters, todo_tombstones, refresh_tokens (schema-shard.sql)
+// 읽기/쓰기 분리(todo.datasource.routing.enabled)와 함께 켤 수 없음
+@Configuration
+@ConditionalOnProperty(name = "todo.datasource.sharding.enabled", havingValue = "true")
+public class DataSourceShardingConfig {
+
+    // 전역 DB 커넥션 풀 (spring.datasource.hikari.* 설정 적용)
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource globalDataSource(DataSourceProperties properties,
+                                             @Value("${todo.datasource.routing.enabled:false}") boolean routingEnabled) {
+        if (routingEnabled) {
+            throw new IllegalStateException("todo.datasource.sharding과 todo.datasource.routing은 함께 켤 수 없습니다.");
+        }
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean(destroyMethod = "close")
+    public ShardRoutingDataSource shardRoutingDataSource(HikariDataSource globalDataSource,
+                                                         DataSourceProperties properties,
+                                                         @Value("${todo.datasource.sharding.shard-urls}") List<String> urls,
+                                                         @Value("${todo.datasource.sharding.shard-username:${spring.datasource.username}}") String username,
+                                                         @Value("${todo.datasource.sharding.shard-password:${spring.datasource.password}}") String password,
+                                                         @Value("${todo.datasource.sharding.shard-pool-size:10}") int poolSize,
+                                                         @Value("${todo.datasource.sharding.id-stride:64}") int idStride,
+                                                         @Value("${todo.datasource.sharding.init-schema:true}") boolean initSchema,
+                                                         MeterRegistry meterRegistry) {
+        ShardRoutingDataSource dataSource = new ShardRoutingDataSource(globalDataSource, urls, username, password,
+                properties.determineDriverClassName(), poolSize, idStride, meterRegistry);
+        if (initSchema) {
+            for (int i = 0; i < dataSource.shardCount(); i++) {
+                DatabasePopulatorUtils.execute(new ResourceDatabasePopulator(new ClassPathResource("schema-shard.sql")), dataSource.shard(i));
+            }
+        }
+        return dataSource;
+    }
+
+    // 디렉터리는 트랜잭션과 상관없이 전역 DB 커넥션으로 바로 조회
+    @Bean
+    public ShardRouter shardRouter(HikariDataSource globalDataSource,
+                                   ShardRoutingDataSource shardRoutingDataSource,
+                                   @Value("${todo.datasource.sharding.virtual-nodes:128}") int virtualNodes,
+                                   @Value("${todo.datasource.sharding.directory-cache-ttl-ms:2000}") long directoryCacheTtlMs,
+                                   MeterRegistry meterRegistry) {
+        return new ShardRouter(new JdbcTemplate(globalDataSource), shardRoutingDataSource.shardCount(), virtualNodes,
+                Duration.ofMillis(directoryCacheTtlMs), 100_000, meterRegistry);
+    }
+
+    // 인터셉터 빈은 MyBatis 자동 설정이 SqlSessionFactory에 등록
+    @Bean
+    public ShardRoutingInterceptor shardRoutingInterceptor(ShardRouter shardRouter, MeterRegistry meterRegistry) {
+        return new ShardRoutingInterceptor(shardRouter, meterRegistry);
+    }
+
+    // MyBatis, 트랜잭션 매니저, schema.sql 초기화 모두 이 DataSource를 사용 (매퍼 구문 밖에서는 전역 DB)
+    @Bean
+    @Primary
+    public DataSource dataSource(ShardRoutingDataSource shardRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(shardRoutingDataSource);
+    }
+
+    @Bean
+    public UserShardMover userShardMover(ShardRouter shardRouter, ShardRoutingDataSource shardRoutingDataSource,
+                                         @Value("${todo.datasource.sharding.move-drain-ms:5000}") long drainMs,
+                                         MeterRegistry meterRegistry) {
+        return new UserShardMover(shardRouter, shardRoutingDataSource, drainMs, meterRegistry);
+    }
+
+    // todo.reshard.user-id가 있으면 그 사용자를 옮기고 종료 (build.gradle의 reshard 작업)
+    @Bean
+    @ConditionalOnProperty(name = "todo.reshard.user-id")
+    public ReshardCommand reshardCommand(UserShardMover userShardMover, ConfigurableApplicationContext context,
+                                         @Value("${todo.reshard.user-id}") long userId,
+                                         @Value("${todo.reshard.target-shard}") int targetShard) {
+        return new ReshardCommand(userShardMover, context, userId, targetShard);
+    }
+}
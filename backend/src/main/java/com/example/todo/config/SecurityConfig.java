@@ -2,7 +2,9 @@ package com.example.todo.config;
 
 import com.example.todo.security.JwtAuthenticationEntryPoint;
 import com.example.todo.security.JwtAuthenticationFilter;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.Customizer;
@@ -35,7 +37,11 @@ public class SecurityConfig {
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))   // 세션 비저장 설정(JWT로 할것이기 때문)
                 .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)   // JWT 필터 추가 (기본 로그인 필터 실행 전 JWT 필터 실행)
                 .authorizeHttpRequests(auth -> auth //URL별 접근 권한 설정
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()  // 스트리밍 응답 완료 후 재디스패치 (최초 요청에서 이미 인증됨)
                         .requestMatchers("/health", "/api/auth/**", "/v3/api-docs/**", "/swagger-ui/**", "/swagger-ui.html").permitAll()
+                        // actuator는 management.server.port(내부 주소에만 바인딩)에서만 제공되고 서비스 포트에는 없음
+                        // 관리 포트도 이 필터 체인을 거치므로 수집기(Prometheus)용 경로만 허용
+                        .requestMatchers("/actuator/health/**", "/actuator/prometheus").permitAll()
                         .anyRequest().authenticated()   // 나머지는 인증 필요
                 );
         return http.build();
@@ -60,8 +66,9 @@ public class SecurityConfig {
         return source; // 스프링 시큐리티가 CORS 규칙을 전역으로 적용
     }
 
+    // strength(work factor)를 바꾸면 기존 사용자는 다음 로그인 때 새 strength로 다시 해시됨
     @Bean
-    public BCryptPasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public BCryptPasswordEncoder passwordEncoder(@Value("${security.bcrypt.strength:10}") int strength) {
+        return new BCryptPasswordEncoder(strength);
     }
 }
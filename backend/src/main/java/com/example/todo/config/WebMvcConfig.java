@@ -0,0 +1,20 @@
+package com.example.todo.config;
+
+import com.example.todo.metrics.HandlerMetricsInterceptor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+@RequiredArgsConstructor
+public class WebMvcConfig implements WebMvcConfigurer {
+
+    private final HandlerMetricsInterceptor handlerMetricsInterceptor;
+
+    // 컨트롤러 메서드별 처리 시간 기록
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(handlerMetricsInterceptor).addPathPatterns("/api/**");
+    }
+}
@@ -4,6 +4,7 @@ import com.example.todo.common.ApiResponseDTO;
 import com.example.todo.dto.request.LoginRequestDTO;
 import com.example.todo.dto.request.RegisterRequestDTO;
 import com.example.todo.dto.request.TokenRefreshRequestDTO;
+import com.example.todo.dto.response.EmailAvailabilityResponseDTO;
 import com.example.todo.dto.response.TokenResponseDTO;
 import com.example.todo.dto.response.UserResponseDTO;
 import com.example.todo.service.UserService;
@@ -12,12 +13,16 @@ import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.NotBlank;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @Tag(name = "인증 API", description = "회원가입 및 로그인 관련 API")
@@ -42,6 +47,19 @@ public class AuthController {
         return ResponseEntity.status(HttpStatus.CREATED).body(ApiResponseDTO.success(HttpStatus.CREATED.value(), "회원가입 성공", res));
     }
 
+    @Operation(
+            summary = "이메일 사용 가능 여부",
+            description = "회원가입 화면에서 이메일 중복 확인 (DB 기준, 가입 시 다시 확인하므로 결과는 참고용)",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "조회 성공", content = @Content(mediaType = "application/json")),
+                    @ApiResponse(responseCode = "400", description = "입력값 오류")
+            })
+    @GetMapping("/email-available")
+    public ResponseEntity<?> emailAvailable(@RequestParam @NotBlank @Email String email) {
+        EmailAvailabilityResponseDTO res = new EmailAvailabilityResponseDTO(email, userService.isEmailAvailable(email));
+        return ResponseEntity.status(HttpStatus.OK).body(ApiResponseDTO.success(HttpStatus.OK.value(), "이메일 확인 성공", res));
+    }
+
     @Operation(
             summary = "로그인",
             description = "이메일과 비밀번호로 로그인을 진행",
@@ -1,21 +1,42 @@
 package com.example.todo.controller;
 
 
+import com.example.todo.cache.TodoReadCache;
+import com.example.todo.cache.TodoVersionTracker;
 import com.example.todo.common.ApiResponseDTO;
+import com.example.todo.dto.request.TodoBatchRequestDTO;
 import com.example.todo.dto.request.TodoCreateRequestDTO;
+import com.example.todo.dto.request.TodoDataFormat;
 import com.example.todo.dto.request.TodoUpdateRequestDTO;
+import com.example.todo.dto.response.CursorPageResponseDTO;
+import com.example.todo.dto.response.TodoChangesResponseDTO;
 import com.example.todo.dto.response.PageResponseDTO;
+import com.example.todo.dto.response.TodoBatchResultDTO;
+import com.example.todo.dto.response.TodoImportResultDTO;
 import com.example.todo.dto.response.TodoResponseDTO;
+import com.example.todo.dto.response.TodoStatsResponseDTO;
+import com.example.todo.event.TodoEventStream;
+import com.example.todo.service.TodoBatchService;
+import com.example.todo.service.TodoExportService;
+import com.example.todo.service.TodoImportService;
 import com.example.todo.service.TodoService;
 import com.example.todo.util.SecurityUtil;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.time.LocalDate;
+import java.util.List;
 
 @RestController
 @RequiredArgsConstructor
@@ -23,7 +44,13 @@ import java.time.LocalDate;
 public class TodoController {
 
     private final TodoService todoService;
+    private final TodoBatchService todoBatchService;
+    private final TodoExportService todoExportService;
+    private final TodoImportService todoImportService;
     private final SecurityUtil securityUtil;
+    private final TodoVersionTracker todoVersionTracker;
+    private final TodoReadCache todoReadCache;
+    private final TodoEventStream todoEventStream;
 
     @PostMapping
     public ResponseEntity<?> create(@Valid @RequestBody TodoCreateRequestDTO req) {
@@ -32,35 +59,144 @@ public class TodoController {
         return ResponseEntity.status(HttpStatus.CREATED).body(ApiResponseDTO.success(HttpStatus.CREATED.value(), "투두 생성 성공", createTodo));
     }
 
+    // 생성/수정/삭제를 섞어서 한 번에 처리 (작업별 결과를 요청 순서대로 반환)
+    @PostMapping("/batch")
+    public ResponseEntity<?> batch(@Valid @RequestBody TodoBatchRequestDTO req) {
+        long userId = securityUtil.getCurrentUserId();
+        List<TodoBatchResultDTO> results = todoBatchService.execute(userId, req.getOperations());
+        return ResponseEntity.status(HttpStatus.OK).body(ApiResponseDTO.success(HttpStatus.OK.value(), "투두 일괄 처리 성공", results));
+    }
+
+    // NDJSON/CSV 본문을 읽으면서 일괄 추가 (format: ndjson, csv)
+    // 형식이 잘못된 행은 건너뛰고 결과의 rejectedLines로 알려줌
+    @PostMapping("/import")
+    public ResponseEntity<?> importTodos(@RequestParam(defaultValue = "ndjson") String format, InputStream body) throws IOException {
+        long userId = securityUtil.getCurrentUserId();
+        TodoImportResultDTO result = todoImportService.importTodos(userId, TodoDataFormat.from(format), body);
+        return ResponseEntity.status(HttpStatus.OK).body(ApiResponseDTO.success(HttpStatus.OK.value(), "투두 가져오기 완료", result));
+    }
+
+    // cursor 파라미터가 있으면(빈 값이면 첫 페이지) 커서 기반, 없으면 기존 page 기반으로 조회
+    // If-None-Match가 현재 ETag와 같으면 DB 조회 없이 304 반환
     @GetMapping
     public ResponseEntity<?> getList(@RequestParam(defaultValue = "1") int page,
                                      @RequestParam(defaultValue = "10") int size,
+                                     @RequestParam(required = false) String cursor,
                                      @RequestParam(required = false) String keyword,
                                      @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
-                                     @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+                                     @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+                                     @RequestParam(defaultValue = "true") boolean includeTotal,
+                                     WebRequest webRequest) {
+        long userId = securityUtil.getCurrentUserId();
+        // 사용자 버전(기본 키 조회 한 번)만으로 304 확인, 바뀌었으면 캐시 또는 DB에서 읽은 시점의 버전으로 ETag를 다시 만듦
+        long version = todoVersionTracker.current(userId);
+        String query = TodoVersionTracker.listQuery(page, size, cursor, keyword, startDate, endDate, includeTotal);
+        if (webRequest.checkNotModified(todoVersionTracker.listEtag(version, query))) {
+            return null;
+        }
+        if (cursor != null) {
+            TodoReadCache.Versioned<CursorPageResponseDTO<TodoResponseDTO>> todos = todoReadCache.get(userId, version, "cursor|" + query,
+                    () -> todoService.getCursorList(userId, cursor, size, keyword, startDate, endDate));
+            return ResponseEntity.status(HttpStatus.OK).eTag(todoVersionTracker.listEtag(todos.version(), query))
+                    .body(ApiResponseDTO.success(HttpStatus.OK.value(), "투두 목록 조회 성공", todos.value()));
+        }
+        TodoReadCache.Versioned<PageResponseDTO<TodoResponseDTO>> todos = todoReadCache.get(userId, version, "page|" + query,
+                () -> todoService.getList(userId, page, size, keyword, startDate, endDate, includeTotal));
+        return ResponseEntity.status(HttpStatus.OK).eTag(todoVersionTracker.listEtag(todos.version(), query))
+                .body(ApiResponseDTO.success(HttpStatus.OK.value(), "투두 목록 조회 성공", todos.value()));
+    }
+
+    // 전체 투두 내보내기 (format: ndjson, csv)
+    // 응답은 별도 스레드에서 쓰므로 사용자 ID는 요청 스레드에서 미리 구해 둠
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> export(@RequestParam(defaultValue = "ndjson") String format) {
+        long userId = securityUtil.getCurrentUserId();
+        TodoDataFormat exportFormat = TodoDataFormat.from(format);
+        StreamingResponseBody body = out -> todoExportService.export(userId, exportFormat, out);
+        return ResponseEntity.status(HttpStatus.OK)
+                .contentType(MediaType.parseMediaType(exportFormat.getContentType() + ";charset=UTF-8"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"todos." + exportFormat.getExtension() + "\"")
+                .body(body);
+    }
+
+    // 상태별 개수, 완료율, 평균 완료 소요 시간
+    @GetMapping("/stats")
+    public ResponseEntity<?> stats() {
+        long userId = securityUtil.getCurrentUserId();
+        TodoStatsResponseDTO stats = todoService.getStats(userId);
+        return ResponseEntity.status(HttpStatus.OK).body(ApiResponseDTO.success(HttpStatus.OK.value(), "투두 통계 조회 성공", stats));
+    }
+
+    // 변경분 동기화: since(이전 응답의 nextToken) 이후 생성/수정된 투두와 삭제된 ID
+    // since 없이 요청하면 처음부터 전체, hasMore가 false가 될 때까지 이어서 요청
+    @GetMapping("/changes")
+    public ResponseEntity<?> changes(@RequestParam(required = false) String since,
+                                     @RequestParam(defaultValue = "500") int size) {
         long userId = securityUtil.getCurrentUserId();
-        PageResponseDTO<TodoResponseDTO> todos = todoService.getList(userId, page, size, keyword, startDate, endDate);
-        return ResponseEntity.status(HttpStatus.OK).body(ApiResponseDTO.success(HttpStatus.OK.value(), "투두 목록 조회 성공", todos));
+        TodoChangesResponseDTO changes = todoService.getChanges(userId, since, size);
+        return ResponseEntity.status(HttpStatus.OK).body(ApiResponseDTO.success(HttpStatus.OK.value(), "투두 변경분 조회 성공", changes));
+    }
+
+    // 투두 변경 SSE 스트림
+    // - resync: 연결 직후나 놓친 변경이 있을 때, 목록을 다시 조회해야 함
+    // - todo: 생성/수정/삭제된 투두 한 건 (id 기준으로 반영)
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream() {
+        long userId = securityUtil.getCurrentUserId();
+        return todoEventStream.subscribe(userId);
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<?> get(@PathVariable long id) {
+    public ResponseEntity<?> get(@PathVariable long id,
+                                 @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         long userId = securityUtil.getCurrentUserId();
-        TodoResponseDTO todos = todoService.get(id, userId);
-        return ResponseEntity.status(HttpStatus.OK).body(ApiResponseDTO.success(HttpStatus.OK.value(), "투두 상세 조회 성공", todos));
+        long version = todoVersionTracker.current(userId);
+        String unchanged = todoVersionTracker.unchangedDetailEtag(version, id, ifNoneMatch);
+        if (unchanged != null) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(unchanged).build();
+        }
+        TodoReadCache.Versioned<TodoResponseDTO> todos = todoReadCache.get(userId, version, "detail|" + id, () -> todoService.get(id, userId));
+        String etag = todoVersionTracker.detailEtag(todos.version(), id, todos.value().getVersion());
+        // *는 투두가 있으면(조회가 404로 끝나지 않으면) 304
+        if (TodoVersionTracker.isWildcard(ifNoneMatch)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+        return ResponseEntity.status(HttpStatus.OK).eTag(etag).body(ApiResponseDTO.success(HttpStatus.OK.value(), "투두 상세 조회 성공", todos.value()));
     }
 
+    // If-Match 헤더로 조회 때 받은 ETag(버전)를 보내면 그 사이 변경된 경우 409 반환
     @PutMapping("/{id}")
-    public ResponseEntity<?> update(@PathVariable long id, @Valid @RequestBody TodoUpdateRequestDTO req) {
+    public ResponseEntity<?> update(@PathVariable long id, @Valid @RequestBody TodoUpdateRequestDTO req,
+                                    @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         long userId = securityUtil.getCurrentUserId();
-        TodoResponseDTO updateTodo = todoService.update(id, userId, req);
-        return ResponseEntity.status(HttpStatus.OK).body(ApiResponseDTO.success(HttpStatus.OK.value(), "투두 수정 성공", updateTodo));
+        TodoResponseDTO updateTodo = todoService.update(id, userId, req, parseVersion(ifMatch));
+        String etag = todoVersionTracker.detailEtag(todoVersionTracker.current(userId), id, updateTodo.getVersion());
+        return ResponseEntity.status(HttpStatus.OK).eTag(etag).body(ApiResponseDTO.success(HttpStatus.OK.value(), "투두 수정 성공", updateTodo));
     }
 
     @DeleteMapping("/{id}")
-    public ResponseEntity<?> delete(@PathVariable long id) {
+    public ResponseEntity<?> delete(@PathVariable long id,
+                                    @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         long userId = securityUtil.getCurrentUserId();
-        todoService.delete(id, userId);
+        todoService.delete(id, userId, parseVersion(ifMatch));
         return ResponseEntity.status(HttpStatus.OK).body(ApiResponseDTO.success(HttpStatus.OK.value(), "투두 삭제 성공", null));
     }
+
+    // If-Match 값(상세 ETag 또는 "3")에서 투두 버전 추출 (없거나 *이면 버전 확인 안 함)
+    private Long parseVersion(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String value = ifMatch.trim();
+        if (value.startsWith("W/")) {
+            value = value.substring(2);
+        }
+        value = value.replace("\"", "");
+        value = value.substring(value.lastIndexOf('-') + 1);    // 상세 ETag는 마지막 값이 투두 버전
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("If-Match 헤더 형식이 올바르지 않습니다.");
+        }
+    }
 }
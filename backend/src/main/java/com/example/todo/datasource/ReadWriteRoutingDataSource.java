@@ -0,0 +1,67 @@
+package com.example.todo.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+// 읽기 전용 트랜잭션(@Transactional(readOnly = true))은 복제본, 그 외(쓰기, 트랜잭션 밖 호출)는 주 DB로 보내는 DataSource
+// 트랜잭션 시작 시점에는 readOnly 여부가 아직 설정되지 않으므로 LazyConnectionDataSourceProxy로 감싸서
+// 첫 쿼리를 실행할 때 커넥션을 고르도록 해야 함
+// 최근에 쓴 사용자, 정상 복제본이 없을 때, 복제본 커넥션을 못 얻었을 때는 주 DB 사용
+public class ReadWriteRoutingDataSource extends AbstractDataSource {
+    private final DataSource primary;
+    private final ReplicaSet replicas;
+    private final ReadYourWritesTracker readYourWritesTracker;
+
+    // db.routing{target}: primary(쓰기), replica, sticky(최근 쓴 사용자), fallback(복제본 사용 불가)
+    private final Counter primaryCounter;
+    private final Counter replicaCounter;
+    private final Counter stickyCounter;
+    private final Counter fallbackCounter;
+
+    public ReadWriteRoutingDataSource(DataSource primary, ReplicaSet replicas, ReadYourWritesTracker readYourWritesTracker,
+                                      MeterRegistry meterRegistry) {
+        this.primary = primary;
+        this.replicas = replicas;
+        this.readYourWritesTracker = readYourWritesTracker;
+        this.primaryCounter = Counter.builder("db.routing").tag("target", "primary").register(meterRegistry);
+        this.replicaCounter = Counter.builder("db.routing").tag("target", "replica").register(meterRegistry);
+        this.stickyCounter = Counter.builder("db.routing").tag("target", "sticky").register(meterRegistry);
+        this.fallbackCounter = Counter.builder("db.routing").tag("target", "fallback").register(meterRegistry);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            primaryCounter.increment();
+            return primary.getConnection();
+        }
+        if (readYourWritesTracker.isCurrentUserSticky()) {
+            stickyCounter.increment();
+            return primary.getConnection();
+        }
+
+        ReplicaSet.Replica replica = replicas.pick();
+        if (replica != null) {
+            try {
+                Connection connection = replica.getConnection();
+                replicaCounter.increment();
+                return connection;
+            } catch (SQLException e) {
+                replica.markDown(e.getMessage());
+            }
+        }
+        fallbackCounter.increment();
+        return primary.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return primary.getConnection(username, password);
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.todo.datasource;
+
+import com.example.todo.event.TodoChangedEvent;
+import com.example.todo.security.CustomUserDetails;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+
+// 최근에 쓴 사용자 (쓰기 직후 읽기가 복제 지연 때문에 이전 데이터를 보지 않도록 잠시 주 DB에서 읽게 함)
+// 투두 데이터는 사용자별이므로 사용자 단위로 충분함, 서버 간에는 공유되지 않음
+public class ReadYourWritesTracker {
+    private final Cache<Long, Boolean> recentWriters;
+
+    public ReadYourWritesTracker(Duration window, long maxSize) {
+        this.recentWriters = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(window)
+                .build();
+    }
+
+    // 투두 변경이 커밋되면 그 사용자를 window 동안 주 DB로 고정
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTodoChanged(TodoChangedEvent event) {
+        markWrite(event.getUserId());
+    }
+
+    public void markWrite(long userId) {
+        recentWriters.put(userId, Boolean.TRUE);
+    }
+
+    // 현재 요청의 사용자가 최근에 썼는지 (인증 정보가 없는 스레드면 false)
+    public boolean isCurrentUserSticky() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !(authentication.getPrincipal() instanceof CustomUserDetails user)) {
+            return false;
+        }
+        return recentWriters.getIfPresent(user.getId()) != null;
+    }
+}
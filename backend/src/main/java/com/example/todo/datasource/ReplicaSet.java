@@ -0,0 +1,147 @@
+package com.example.todo.datasource;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 복제본 커넥션 풀 목록과 상태 확인
+// 주기적으로 연결 가능 여부와 복제 지연(Seconds_Behind_Source)을 확인해서 지연이 max-lag-seconds를 넘거나 복제가 멈춘 복제본은 제외
+// 모든 복제본이 제외되면 읽기도 주 DB로 감
+// 지연을 확인하지 못한 복제본(SHOW REPLICA STATUS 실패, 권한 없음 등)도 제외 (assume-zero-lag-when-unknown=true면 지연 0으로 봄)
+@Slf4j
+public class ReplicaSet implements AutoCloseable {
+    private final List<Replica> replicas = new ArrayList<>();
+    private final long maxLagSeconds;
+    private final boolean assumeZeroLagWhenUnknown;
+    private final AtomicInteger next = new AtomicInteger();
+
+    public ReplicaSet(List<String> urls, String username, String password, String driverClassName,
+                      int poolSize, long maxLagSeconds, boolean assumeZeroLagWhenUnknown, MeterRegistry meterRegistry) {
+        this.maxLagSeconds = maxLagSeconds;
+        this.assumeZeroLagWhenUnknown = assumeZeroLagWhenUnknown;
+        for (int i = 0; i < urls.size(); i++) {
+            HikariConfig config = new HikariConfig();
+            config.setPoolName("todo-replica-" + i);
+            config.setJdbcUrl(urls.get(i).trim());
+            config.setUsername(username);
+            config.setPassword(password);
+            config.setDriverClassName(driverClassName);
+            config.setMaximumPoolSize(poolSize);
+            config.setReadOnly(true);
+            // 복제본이 응답하지 않으면 빨리 포기하고 주 DB로 (시작할 때 복제본이 꺼져 있어도 서버는 뜸)
+            config.setConnectionTimeout(1000);
+            config.setInitializationFailTimeout(-1);
+            config.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+            Replica replica = new Replica(config.getPoolName(), new HikariDataSource(config));
+            replicas.add(replica);
+
+            Gauge.builder("db.replica.healthy", replica, r -> r.healthy ? 1 : 0).tag("replica", replica.name).register(meterRegistry);
+            Gauge.builder("db.replica.lag", replica, r -> r.lagSeconds).tag("replica", replica.name).baseUnit("seconds").register(meterRegistry);
+        }
+    }
+
+    // 정상인 복제본을 돌아가며 선택, 없으면 null
+    public Replica pick() {
+        int size = replicas.size();
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get(Math.floorMod(next.getAndIncrement(), size));
+            if (replica.healthy) {
+                return replica;
+            }
+        }
+        return null;
+    }
+
+    @Scheduled(initialDelayString = "${todo.datasource.routing.health-check-interval-ms:5000}",
+            fixedDelayString = "${todo.datasource.routing.health-check-interval-ms:5000}")
+    public void checkHealth() {
+        for (Replica replica : replicas) {
+            try (Connection connection = replica.pool.getConnection();
+                 Statement statement = connection.createStatement()) {
+                Long lag = replicationLag(statement);
+                if (lag == null) {
+                    replica.markDown("replication stopped");
+                } else if (lag > maxLagSeconds) {
+                    replica.lagSeconds = lag;
+                    replica.markDown("lag " + lag + "s");
+                } else {
+                    replica.lagSeconds = lag;
+                    replica.markUp();
+                }
+            } catch (SQLException e) {
+                replica.markDown(e.getMessage());
+            }
+        }
+    }
+
+    // 복제 지연(초), 복제가 멈췄으면 null
+    // 결과 행이 없으면 복제 설정이 없는 DB(로컬 테스트용 별도 인스턴스)이므로 0
+    // 조회가 실패하면 예외를 그대로 던져서 제외시킴 (assume-zero-lag-when-unknown=true이고 커넥션이 살아 있으면 0)
+    private Long replicationLag(Statement statement) throws SQLException {
+        try (ResultSet rs = statement.executeQuery("SHOW REPLICA STATUS")) {
+            if (!rs.next()) {
+                return 0L;
+            }
+            long lag = rs.getLong("Seconds_Behind_Source");
+            return rs.wasNull() ? null : lag;
+        } catch (SQLException e) {
+            if (!assumeZeroLagWhenUnknown || !statement.getConnection().isValid(1)) {
+                throw e;
+            }
+            log.debug("Replication lag unknown, assuming 0: {}", e.getMessage());
+            return 0L;
+        }
+    }
+
+    @Override
+    public void close() {
+        replicas.forEach(replica -> replica.pool.close());
+    }
+
+    public static class Replica {
+        private final String name;
+        private final HikariDataSource pool;
+        private volatile boolean healthy = true;
+        private volatile long lagSeconds;
+
+        Replica(String name, HikariDataSource pool) {
+            this.name = name;
+            this.pool = pool;
+        }
+
+        public Connection getConnection() throws SQLException {
+            return pool.getConnection();
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        // 커넥션을 못 얻었을 때도 호출 (다음 상태 확인 때까지 제외)
+        void markDown(String reason) {
+            if (healthy) {
+                log.warn("Replica {} marked down: {}", name, reason);
+            }
+            healthy = false;
+        }
+
+        void markUp() {
+            if (!healthy) {
+                log.info("Replica {} is back (lag {}s)", name, lagSeconds);
+            }
+            healthy = true;
+        }
+    }
+}
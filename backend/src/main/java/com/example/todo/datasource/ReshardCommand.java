@@ -0,0 +1,37 @@
+package com.example.todo.datasource;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+// 샤드 이동 명령: ./gradlew reshard -PuserId=42 -PtargetShard=1
+// 웹 서버 없이 애플리케이션을 띄워 사용자 한 명을 옮긴 뒤 종료 (실패하면 종료 코드 1)
+// 다른 서버가 실행 중이어도 됨 (옮기는 동안 그 사용자의 쓰기만 잠시 거부)
+@Slf4j
+@RequiredArgsConstructor
+public class ReshardCommand implements ApplicationRunner {
+    private final UserShardMover mover;
+    private final ConfigurableApplicationContext context;
+    private final long userId;
+    private final int targetShard;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        int exitCode = 0;
+        try {
+            long moved = mover.move(userId, targetShard);
+            log.info("Reshard finished: user {} -> shard {} ({} rows)", userId, targetShard, moved);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            exitCode = 1;
+        } catch (RuntimeException e) {
+            log.error("Reshard failed: user {} -> shard {}", userId, targetShard, e);
+            exitCode = 1;
+        }
+        int code = exitCode;
+        System.exit(SpringApplication.exit(context, () -> code));
+    }
+}
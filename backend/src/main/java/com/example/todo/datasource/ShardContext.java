@@ -0,0 +1,42 @@
+package com.example.todo.datasource;
+
+import java.util.function.Supplier;
+
+// 현재 스레드가 커넥션을 얻을 샤드 번호 (null이면 전역 DB: users, user_shards)
+// 보통은 ShardRoutingInterceptor가 매퍼 구문을 실행하는 동안만 설정하고,
+// 사용자 ID가 없는 구문(만료 토큰 정리)이나 샤드 이동 도구는 callOn으로 샤드를 직접 지정
+public final class ShardContext {
+    private static final ThreadLocal<Integer> CURRENT = new ThreadLocal<>();
+
+    private ShardContext() {
+    }
+
+    public static Integer current() {
+        return CURRENT.get();
+    }
+
+    // shard로 바꾸고 이전 값 반환 (restore로 되돌려야 함)
+    static Integer bind(Integer shard) {
+        Integer previous = CURRENT.get();
+        if (shard == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(shard);
+        }
+        return previous;
+    }
+
+    static void restore(Integer previous) {
+        bind(previous);
+    }
+
+    // action을 실행하는 동안 사용자 ID가 없는 샤드 매퍼 구문을 shard에서 실행
+    public static <T> T callOn(int shard, Supplier<T> action) {
+        Integer previous = bind(shard);
+        try {
+            return action.get();
+        } finally {
+            restore(previous);
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.example.todo.datasource;
+
+import com.example.todo.exception.ServerBusyException;
+import com.example.todo.exception.ShardRoutingException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+// 사용자 ID -> 샤드 번호
+// 기본은 일관된 해시(샤드마다 가상 노드 virtual-nodes개를 링에 배치)로 정하고,
+// 다른 샤드로 옮긴 사용자만 전역 DB의 user_shards(디렉터리)에 기록해서 해시보다 우선 적용
+// 샤드를 뒤에 추가하면 링에서 새 샤드 구간에 걸리는 사용자(약 1/N)만 해시 결과가 바뀌므로,
+// 추가하기 전에 그 사용자들을 UserShardMover로 옮기거나 디렉터리에 기존 샤드를 기록해 둬야 함
+// 디렉터리 조회 결과(없음 포함)는 directory-cache-ttl 동안 캐시하므로 다른 서버의 변경은 그만큼 늦게 보임
+public class ShardRouter {
+    private static final long VIRTUAL_NODE_SALT = 0x9E3779B97F4A7C15L;
+
+    private final JdbcTemplate directory;
+    private final int shardCount;
+    private final TreeMap<Long, Integer> ring = new TreeMap<>();
+    private final Cache<Long, Placement> placements;
+    private final long retryAfterSeconds;
+
+    public ShardRouter(JdbcTemplate directory, int shardCount, int virtualNodes, Duration directoryCacheTtl,
+                       long maxSize, MeterRegistry meterRegistry) {
+        if (shardCount < 1) {
+            throw new IllegalArgumentException("샤드는 하나 이상이어야 합니다.");
+        }
+        this.directory = directory;
+        this.shardCount = shardCount;
+        for (int shard = 0; shard < shardCount; shard++) {
+            for (int node = 0; node < virtualNodes; node++) {
+                ring.putIfAbsent(mix((((long) shard << 32) | node) ^ VIRTUAL_NODE_SALT), shard);
+            }
+        }
+        this.placements = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(directoryCacheTtl)
+                .recordStats()
+                .build();
+        this.retryAfterSeconds = Math.max(1, directoryCacheTtl.toSeconds());
+        CaffeineCacheMetrics.monitor(meterRegistry, placements, "db.shard.directory");
+    }
+
+    public int shardCount() {
+        return shardCount;
+    }
+
+    // 구문을 실행할 샤드 (옮기는 중인 사용자의 쓰기는 거부, 읽기는 옮기기 전 샤드에서)
+    public int shardFor(long userId, boolean write) {
+        Placement placement = placement(userId);
+        if (write && placement.isMoving()) {
+            throw new ServerBusyException("데이터를 다른 저장소로 옮기는 중입니다. 잠시 후 다시 시도해주세요.", retryAfterSeconds);
+        }
+        return placement.getShard();
+    }
+
+    public Placement placement(long userId) {
+        return placements.get(userId, this::load);
+    }
+
+    // 디렉터리에 사용자의 샤드 기록 (이 서버의 캐시는 바로 비우고, 다른 서버는 캐시가 만료된 뒤 반영)
+    public void assign(long userId, int shard, boolean moving) {
+        checkShard(shard);
+        directory.update("INSERT INTO user_shards (user_id, shard, moving) VALUES (?, ?, ?) AS new "
+                + "ON DUPLICATE KEY UPDATE shard = new.shard, moving = new.moving", userId, shard, moving);
+        placements.invalidate(userId);
+    }
+
+    // 해시로 정해지는 샤드 (디렉터리 무시)
+    public int hashShard(long userId) {
+        Map.Entry<Long, Integer> entry = ring.ceilingEntry(mix(userId));
+        return entry != null ? entry.getValue() : ring.firstEntry().getValue();
+    }
+
+    private Placement load(long userId) {
+        List<Placement> rows = directory.query("SELECT shard, moving FROM user_shards WHERE user_id = ?",
+                (rs, rowNum) -> new Placement(rs.getInt("shard"), rs.getBoolean("moving")), userId);
+        if (rows.isEmpty()) {
+            return new Placement(hashShard(userId), false);
+        }
+        Placement placement = rows.get(0);
+        checkShard(placement.getShard());
+        return placement;
+    }
+
+    private void checkShard(int shard) {
+        if (shard < 0 || shard >= shardCount) {
+            throw new ShardRoutingException("설정되지 않은 샤드 번호: " + shard);
+        }
+    }
+
+    // SplitMix64 마무리 함수 (연속된 사용자 ID도 링 전체에 고르게 퍼지도록)
+    static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Placement {
+        private final int shard;
+        private final boolean moving;
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.todo.datasource;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+// ShardContext에 설정된 샤드의 커넥션을 주는 DataSource (설정이 없으면 전역 DB)
+// 트랜잭션 시작 시점에는 어느 샤드인지 모르므로 LazyConnectionDataSourceProxy로 감싸서
+// 첫 구문을 실행할 때(ShardRoutingInterceptor가 샤드를 정한 뒤) 커넥션을 얻도록 해야 함
+// 샤드를 옮겨도 투두 ID가 겹치지 않도록 샤드마다 AUTO_INCREMENT 시작값을 다르게 하고 id-stride씩 증가시킴
+// (샤드 i는 i+1, i+1+stride, ... 이므로 샤드 수는 id-stride를 넘을 수 없음)
+// 이 값은 각 샤드 서버 설정(auto_increment_increment=id-stride, auto_increment_offset=i+1)으로 둬야 함
+// - 세션에서 SET으로 바꾸면 드라이버는 접속할 때 읽은 값(1)을 계속 쓰므로, 여러 행 INSERT로 합쳐진 배치
+//   (rewriteBatchedStatements=true)의 생성 ID를 LAST_INSERT_ID + i로 잘못 계산함
+// - 시작할 때 샤드마다 설정을 확인하고 다르면 실패
+public class ShardRoutingDataSource extends AbstractDataSource implements AutoCloseable {
+    private final DataSource global;
+    private final List<HikariDataSource> shards = new ArrayList<>();
+
+    public ShardRoutingDataSource(DataSource global, List<String> urls, String username, String password,
+                                  String driverClassName, int poolSize, int idStride, MeterRegistry meterRegistry) {
+        if (urls.size() > idStride) {
+            throw new IllegalArgumentException("샤드 수(" + urls.size() + ")가 id-stride(" + idStride + ")보다 많습니다.");
+        }
+        this.global = global;
+        for (int i = 0; i < urls.size(); i++) {
+            HikariConfig config = new HikariConfig();
+            config.setPoolName("todo-shard-" + i);
+            config.setJdbcUrl(urls.get(i).trim());
+            config.setUsername(username);
+            config.setPassword(password);
+            config.setDriverClassName(driverClassName);
+            config.setMaximumPoolSize(poolSize);
+            config.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+            HikariDataSource shard = new HikariDataSource(config);
+            shards.add(shard);
+            checkAutoIncrement(shard, i, idStride);
+        }
+    }
+
+    private void checkAutoIncrement(HikariDataSource shard, int index, int idStride) {
+        try (Connection connection = shard.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SELECT @@GLOBAL.auto_increment_increment, @@GLOBAL.auto_increment_offset")) {
+            rs.next();
+            long increment = rs.getLong(1);
+            long offset = rs.getLong(2);
+            if (increment != idStride || offset != index + 1) {
+                throw new IllegalStateException("샤드 " + index + "의 서버 설정이 auto_increment_increment=" + increment
+                        + ", auto_increment_offset=" + offset + " 입니다 (필요: " + idStride + ", " + (index + 1) + ")");
+            }
+        } catch (SQLException e) {
+            close();
+            throw new IllegalStateException("샤드 " + index + " 설정을 확인할 수 없습니다.", e);
+        } catch (IllegalStateException e) {
+            close();
+            throw e;
+        }
+    }
+
+    public int shardCount() {
+        return shards.size();
+    }
+
+    // 샤드 커넥션 풀 (샤드 이동 도구, 스키마 초기화용)
+    public DataSource shard(int shard) {
+        return shards.get(shard);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        Integer shard = ShardContext.current();
+        return shard == null ? global.getConnection() : shards.get(shard).getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        Integer shard = ShardContext.current();
+        return shard == null ? global.getConnection(username, password) : shards.get(shard).getConnection(username, password);
+    }
+
+    @Override
+    public void close() {
+        shards.forEach(HikariDataSource::close);
+    }
+}
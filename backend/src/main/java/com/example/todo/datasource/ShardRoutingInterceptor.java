@@ -0,0 +1,144 @@
+package com.example.todo.datasource;
+
+import com.example.todo.domain.RefreshToken;
+import com.example.todo.domain.TodoCounterDelta;
+import com.example.todo.domain.Todos;
+import com.example.todo.exception.ShardRoutingException;
+import com.example.todo.mapper.RefreshTokenMapper;
+import com.example.todo.mapper.TodoCounterMapper;
+import com.example.todo.mapper.TodoMapper;
+import com.example.todo.mapper.TodoTombstoneMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.ibatis.cache.CacheKey;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.mapping.SqlCommandType;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Signature;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.session.RowBounds;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+
+// 사용자별 테이블(todos, todo_counters, todo_tombstones, refresh_tokens) 매퍼 구문을 userId 파라미터의 샤드로 보냄
+// 그 외 매퍼(UserMapper)는 전역 DB
+// 샤드는 구문을 실행하는 동안만 ShardContext에 설정되고, 커넥션은 LazyConnectionDataSourceProxy가 첫 구문에서 얻음
+// 트랜잭션은 커넥션 하나를 쓰므로 한 트랜잭션 안의 구문은 모두 같은 샤드(또는 전역 DB)여야 함 (다르면 예외)
+// userId가 없는 구문은 트랜잭션이 이미 정한 샤드(lastChangeSeq) 또는 ShardContext.callOn으로 지정한 샤드에서 실행
+@Intercepts({
+        @Signature(type = Executor.class, method = "update", args = {MappedStatement.class, Object.class}),
+        @Signature(type = Executor.class, method = "query", args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class}),
+        @Signature(type = Executor.class, method = "query", args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class, CacheKey.class, BoundSql.class}),
+        @Signature(type = Executor.class, method = "queryCursor", args = {MappedStatement.class, Object.class, RowBounds.class})
+})
+public class ShardRoutingInterceptor implements Interceptor {
+    private static final Set<String> SHARDED_MAPPERS = Set.of(
+            TodoMapper.class.getName(),
+            TodoCounterMapper.class.getName(),
+            TodoTombstoneMapper.class.getName(),
+            RefreshTokenMapper.class.getName());
+    // 트랜잭션이 사용 중인 샤드 (전역 DB는 GLOBAL)
+    private static final Object TRANSACTION_SHARD_KEY = new Object();
+    private static final int GLOBAL = -1;
+
+    private final ShardRouter router;
+    // db.shard.route{shard}: 샤드별 구문 수 (전역 DB는 global)
+    private final Counter[] shardCounters;
+    private final Counter globalCounter;
+
+    public ShardRoutingInterceptor(ShardRouter router, MeterRegistry meterRegistry) {
+        this.router = router;
+        this.shardCounters = new Counter[router.shardCount()];
+        for (int i = 0; i < shardCounters.length; i++) {
+            shardCounters[i] = Counter.builder("db.shard.route").tag("shard", String.valueOf(i)).register(meterRegistry);
+        }
+        this.globalCounter = Counter.builder("db.shard.route").tag("shard", "global").register(meterRegistry);
+    }
+
+    @Override
+    public Object intercept(Invocation invocation) throws Throwable {
+        MappedStatement statement = (MappedStatement) invocation.getArgs()[0];
+        Integer shard = isSharded(statement) ? resolveShard(statement, invocation.getArgs()[1]) : null;
+        bindToTransaction(statement, shard == null ? GLOBAL : shard);
+        (shard == null ? globalCounter : shardCounters[shard]).increment();
+
+        Integer previous = ShardContext.bind(shard);
+        try {
+            return invocation.proceed();
+        } finally {
+            ShardContext.restore(previous);
+        }
+    }
+
+    static boolean isSharded(MappedStatement statement) {
+        String id = statement.getId();
+        return SHARDED_MAPPERS.contains(id.substring(0, id.lastIndexOf('.')));
+    }
+
+    private int resolveShard(MappedStatement statement, Object parameter) {
+        Integer forced = ShardContext.current();
+        if (forced != null) {
+            return forced;
+        }
+        Long userId = userId(parameter);
+        if (userId != null) {
+            return router.shardFor(userId, statement.getSqlCommandType() != SqlCommandType.SELECT);
+        }
+        Object bound = TransactionSynchronizationManager.getResource(TRANSACTION_SHARD_KEY);
+        if (bound != null && (Integer) bound != GLOBAL) {
+            return (Integer) bound;
+        }
+        throw new ShardRoutingException("샤드를 정할 수 없는 구문입니다 (userId 파라미터 없음): " + statement.getId());
+    }
+
+    // 트랜잭션의 첫 구문이 샤드를 정하고, 이후 다른 샤드 구문은 거부
+    private void bindToTransaction(MappedStatement statement, int shard) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        Object bound = TransactionSynchronizationManager.getResource(TRANSACTION_SHARD_KEY);
+        if (bound == null) {
+            TransactionSynchronizationManager.bindResource(TRANSACTION_SHARD_KEY, shard);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(TRANSACTION_SHARD_KEY);
+                }
+            });
+        } else if ((Integer) bound != shard) {
+            throw new ShardRoutingException("한 트랜잭션에서 여러 저장소(샤드 " + bound + ", " + shard
+                    + ")를 사용할 수 없습니다: " + statement.getId());
+        }
+    }
+
+    // 매퍼 파라미터의 사용자 ID (@Param("userId"), Todos/RefreshToken/TodoCounterDelta 객체, insertAll의 첫 번째 투두)
+    static Long userId(Object parameter) {
+        if (parameter instanceof Todos todos) {
+            return todos.getUserId();
+        }
+        if (parameter instanceof TodoCounterDelta delta) {
+            return delta.getUserId();
+        }
+        if (parameter instanceof RefreshToken refreshToken) {
+            return refreshToken.getUserId();
+        }
+        if (parameter instanceof Map<?, ?> params) {
+            if (params.containsKey("userId")) {
+                return ((Number) params.get("userId")).longValue();
+            }
+            if (params.containsKey("todos") && params.get("todos") instanceof Collection<?> todos
+                    && !todos.isEmpty() && todos.iterator().next() instanceof Todos first) {
+                return first.getUserId();
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,154 @@
+package com.example.todo.datasource;
+
+import com.example.todo.exception.ShardRoutingException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// 한 사용자의 행(todos, todo_counters, todo_tombstones, refresh_tokens)을 다른 샤드로 옮기는 도구
+// 서비스를 멈추지 않고 옮기기 위해:
+// 1. 디렉터리에 "옮기는 중"을 기록 -> 모든 서버의 디렉터리 캐시가 만료되고 진행 중인 쓰기가 끝날 때까지 대기
+//    (그동안 이 사용자의 쓰기는 503 + Retry-After, 읽기는 기존 샤드에서 계속)
+// 2. 기존 샤드에서 읽어 대상 샤드에 한 트랜잭션으로 복사 (투두 ID/변경 순번 유지), 테이블별 행 수가 같은지 확인
+// 3. 디렉터리를 대상 샤드로 바꾸고 캐시가 만료될 때까지 기다린 뒤 기존 샤드의 행 삭제
+// 중간에 실패하면 대상 샤드 트랜잭션은 롤백되고 디렉터리는 기존 샤드로 되돌림
+@Slf4j
+public class UserShardMover {
+    // 테이블 -> 복사할 컬럼 (refresh_tokens의 id는 대상 샤드에서 새로 발급)
+    private static final List<Table> TABLES = List.of(
+            new Table("todos", "id, user_id, title, status, created_at, completed_at, version, change_seq"),
+            new Table("todo_counters", "user_id, total_count, todo_count, in_progress_count, done_count, "
+                    + "done_duration_seconds, done_timed_count, change_seq"),
+            new Table("todo_tombstones", "user_id, change_seq, todo_id, deleted_at"),
+            new Table("refresh_tokens", "user_id, token_hash, expiry_date"));
+    private static final int COPY_BATCH_SIZE = 500;
+
+    private final ShardRouter router;
+    private final ShardRoutingDataSource shards;
+    private final long drainMs;
+    private final MeterRegistry meterRegistry;
+
+    // drainMs: 디렉터리 캐시 TTL + 가장 긴 쓰기 트랜잭션 시간보다 길어야 함
+    public UserShardMover(ShardRouter router, ShardRoutingDataSource shards, long drainMs, MeterRegistry meterRegistry) {
+        this.router = router;
+        this.shards = shards;
+        this.drainMs = drainMs;
+        this.meterRegistry = meterRegistry;
+    }
+
+    // 옮긴 행 수 반환 (이미 대상 샤드에 있으면 0)
+    public long move(long userId, int target) throws InterruptedException {
+        ShardRouter.Placement placement = router.placement(userId);
+        if (placement.isMoving()) {
+            throw new ShardRoutingException("이미 옮기는 중인 사용자입니다: " + userId);
+        }
+        int source = placement.getShard();
+        if (source == target) {
+            return 0;
+        }
+        if (target < 0 || target >= shards.shardCount()) {
+            throw new IllegalArgumentException("설정되지 않은 샤드 번호: " + target);
+        }
+
+        long start = System.nanoTime();
+        String outcome = "error";
+        router.assign(userId, source, true);
+        try {
+            Thread.sleep(drainMs);
+            long copied = copy(userId, source, target);
+            router.assign(userId, target, false);
+            outcome = "success";
+
+            // 다른 서버가 아직 기존 샤드를 읽을 수 있으므로 캐시가 만료된 뒤 삭제
+            Thread.sleep(drainMs);
+            deleteRows(new JdbcTemplate(shards.shard(source)), userId);
+            log.info("Moved user {} from shard {} to shard {} ({} rows)", userId, source, target, copied);
+            return copied;
+        } finally {
+            if (!outcome.equals("success")) {
+                router.assign(userId, source, false);
+            }
+            Timer.builder("db.shard.move").tag("outcome", outcome).register(meterRegistry)
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private long copy(long userId, int source, int target) {
+        JdbcTemplate from = new JdbcTemplate(shards.shard(source));
+        JdbcTemplate to = new JdbcTemplate(shards.shard(target));
+        TransactionTemplate transaction = new TransactionTemplate(new DataSourceTransactionManager(shards.shard(target)));
+        return transaction.execute(status -> {
+            // 이전에 실패한 이동이 남긴 행 정리
+            deleteRows(to, userId);
+            long copied = 0;
+            for (Table table : TABLES) {
+                long rows = copyTable(from, to, table, userId);
+                Long sourceRows = from.queryForObject("SELECT COUNT(*) FROM " + table.name + " WHERE user_id = ?", Long.class, userId);
+                Long targetRows = to.queryForObject("SELECT COUNT(*) FROM " + table.name + " WHERE user_id = ?", Long.class, userId);
+                if (rows != sourceRows || rows != targetRows) {
+                    throw new ShardRoutingException(table.name + " 행 수가 다릅니다 (기존 " + sourceRows
+                            + ", 복사 " + rows + ", 대상 " + targetRows + ")");
+                }
+                copied += rows;
+            }
+            return copied;
+        });
+    }
+
+    private long copyTable(JdbcTemplate from, JdbcTemplate to, Table table, long userId) {
+        String insert = "INSERT INTO " + table.name + " (" + table.columns + ") VALUES ("
+                + String.join(", ", Collections.nCopies(table.columnCount, "?")) + ")";
+        List<Object[]> batch = new ArrayList<>(COPY_BATCH_SIZE);
+        long[] copied = {0};
+        from.query("SELECT " + table.columns + " FROM " + table.name + " WHERE user_id = ?", (RowCallbackHandler) rs -> {
+            batch.add(row(rs, table.columnCount));
+            if (batch.size() == COPY_BATCH_SIZE) {
+                to.batchUpdate(insert, batch);
+                copied[0] += batch.size();
+                batch.clear();
+            }
+        }, userId);
+        if (!batch.isEmpty()) {
+            to.batchUpdate(insert, batch);
+            copied[0] += batch.size();
+        }
+        return copied[0];
+    }
+
+    private static Object[] row(ResultSet rs, int columnCount) throws SQLException {
+        Object[] row = new Object[columnCount];
+        for (int i = 0; i < columnCount; i++) {
+            row[i] = rs.getObject(i + 1);
+        }
+        return row;
+    }
+
+    private static void deleteRows(JdbcTemplate shard, long userId) {
+        for (Table table : TABLES) {
+            shard.update("DELETE FROM " + table.name + " WHERE user_id = ?", userId);
+        }
+    }
+
+    private static class Table {
+        private final String name;
+        private final String columns;
+        private final int columnCount;
+
+        Table(String name, String columns) {
+            this.name = name;
+            this.columns = columns;
+            this.columnCount = columns.split(",").length;
+        }
+    }
+}
@@ -8,6 +8,6 @@ import java.time.LocalDateTime;
 public class RefreshToken {
     private Long id;
     private Long userId;
-    private String token;
+    private String tokenHash;  // 토큰 원문의 SHA-256 (16진수 64자)
     private LocalDateTime expiryDate;
 }
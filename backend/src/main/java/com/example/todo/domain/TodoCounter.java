@@ -0,0 +1,15 @@
+package com.example.todo.domain;
+
+import lombok.Data;
+
+// 사용자별 투두 개수 집계 (todo_counters 테이블 매핑)
+@Data
+public class TodoCounter {
+    private Long userId;
+    private long totalCount;        // 전체 개수
+    private long todoCount;         // TODO 상태 개수
+    private long inProgressCount;   // IN_PROGRESS 상태 개수
+    private long doneCount;         // DONE 상태 개수
+    private long doneDurationSeconds;   // 완료일을 아는 DONE 투두의 (완료일 - 생성일) 합계(초)
+    private long doneTimedCount;        // 완료일을 아는 DONE 투두 개수
+}
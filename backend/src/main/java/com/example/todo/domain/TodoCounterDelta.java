@@ -0,0 +1,51 @@
+package com.example.todo.domain;
+
+import lombok.Getter;
+import lombok.Setter;
+
+// 사용자 집계(todo_counters) 변화량 + 함께 발급할 변경 순번 개수 (TodoCounterMapper.applyChange 파라미터)
+@Getter
+public class TodoCounterDelta {
+    private final long userId;
+    private final int changeSeqCount;
+    private long total;
+    private final long[] status = new long[TodoStatus.values().length];   // TodoStatus 순서(TODO, IN_PROGRESS, DONE)
+    private long doneSeconds;   // 완료 소요 시간 합계 변화량(초)
+    private long doneTimed;     // 완료일을 아는 DONE 투두 개수 변화량
+    @Setter
+    private Long changeSeq;     // 실행 후 마지막으로 발급된 변경 순번 (UPDATE 결과의 생성 키)
+
+    public TodoCounterDelta(long userId, int changeSeqCount) {
+        this.userId = userId;
+        this.changeSeqCount = changeSeqCount;
+    }
+
+    // 상태가 status인 투두 count개 추가 (completionSeconds: 한 개의 완료 소요 시간, 모르면 null)
+    public void add(TodoStatus status, long count, Long completionSeconds) {
+        total += count;
+        this.status[status.ordinal()] += count;
+        if (completionSeconds != null) {
+            doneSeconds += completionSeconds * count;
+            doneTimed += count;
+        }
+    }
+
+    // 상태가 status인 투두 한 개 제거
+    public void remove(TodoStatus status, Long completionSeconds) {
+        total--;
+        this.status[status.ordinal()]--;
+        if (completionSeconds != null) {
+            doneSeconds -= completionSeconds;
+            doneTimed--;
+        }
+    }
+
+    // 투두 한 개의 상태 변경 (같은 상태면 변화 없음)
+    public void changeStatus(TodoStatus from, Long fromCompletionSeconds, TodoStatus to, Long toCompletionSeconds) {
+        if (from == to) {
+            return;
+        }
+        remove(from, fromCompletionSeconds);
+        add(to, 1, toCompletionSeconds);
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.todo.domain;
+
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+@Data
+public class TodoTombstone {
+    private long userId;
+    private long changeSeq;
+    private long todoId;
+    private LocalDateTime deletedAt;
+}
@@ -12,4 +12,6 @@ public class Todos {
     private TodoStatus status;
     private LocalDateTime createdAt;
     private LocalDateTime completedAt;
+    private long version;
+    private long changeSeq;
 }
@@ -0,0 +1,17 @@
+package com.example.todo.dto.request;
+
+import com.example.todo.domain.TodoStatus;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class TodoBatchOperationDTO {
+    @NotNull
+    private TodoBatchOperationType op;
+    private Long id;            // UPDATE, DELETE 대상
+    private String title;       // CREATE 필수, UPDATE 선택
+    private TodoStatus status;  // UPDATE 선택
+    private Long version;       // UPDATE, DELETE 선택 (If-Match와 같은 역할)
+}
@@ -0,0 +1,7 @@
+package com.example.todo.dto.request;
+
+public enum TodoBatchOperationType {
+    CREATE,
+    UPDATE,
+    DELETE
+}
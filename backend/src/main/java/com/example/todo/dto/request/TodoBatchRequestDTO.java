@@ -0,0 +1,18 @@
+package com.example.todo.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+public class TodoBatchRequestDTO {
+
+    @NotEmpty
+    @Size(max = 500)
+    private List<@Valid TodoBatchOperationDTO> operations;
+}
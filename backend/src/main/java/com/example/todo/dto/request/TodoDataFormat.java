@@ -0,0 +1,27 @@
+package com.example.todo.dto.request;
+
+import lombok.Getter;
+
+@Getter
+public enum TodoDataFormat {
+    NDJSON("application/x-ndjson", "ndjson"),
+    CSV("text/csv", "csv");
+
+    private final String contentType;
+    private final String extension;
+
+    TodoDataFormat(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+
+    // 요청 파라미터(대소문자 무시) 변환
+    public static TodoDataFormat from(String value) {
+        for (TodoDataFormat format : values()) {
+            if (format.extension.equalsIgnoreCase(value)) {
+                return format;
+            }
+        }
+        throw new IllegalArgumentException("지원하지 않는 형식입니다. (ndjson, csv)");
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.todo.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class CursorPageResponseDTO<T> {
+    private List<T> data;
+    private String nextCursor;  // 다음 페이지 요청 시 그대로 전달 (마지막 페이지면 null)
+    private boolean hasNext;
+    private int size;
+}
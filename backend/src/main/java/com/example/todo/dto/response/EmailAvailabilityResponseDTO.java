@@ -0,0 +1,11 @@
+package com.example.todo.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class EmailAvailabilityResponseDTO {
+    private String email;
+    private boolean available;
+}
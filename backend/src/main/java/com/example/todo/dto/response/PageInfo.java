@@ -8,6 +8,7 @@ import lombok.Getter;
 public class PageInfo {
     private int page;
     private int size;
-    private long totalElements;
-    private long totalPages;
+    private Long totalElements; // 전체 개수를 계산하지 않은 경우(includeTotal=false) null
+    private Long totalPages;
+    private boolean hasNext;
 }
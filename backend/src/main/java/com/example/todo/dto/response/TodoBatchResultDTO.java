@@ -0,0 +1,14 @@
+package com.example.todo.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class TodoBatchResultDTO {
+    private int index;              // 요청 operations에서의 순서
+    private String op;
+    private int status;             // 작업별 HTTP 상태 코드 (200, 201, 400, 404)
+    private String message;
+    private TodoResponseDTO data;   // 생성/수정 결과 (삭제, 실패 시 null)
+}
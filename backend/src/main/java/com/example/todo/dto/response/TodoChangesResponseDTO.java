@@ -0,0 +1,15 @@
+package com.example.todo.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class TodoChangesResponseDTO {
+    private List<TodoResponseDTO> changed;  // 생성/수정된 투두 (id 기준으로 덮어쓰기)
+    private List<Long> deleted;             // 삭제된 투두 ID
+    private String nextToken;               // 다음 요청의 since로 그대로 전달
+    private boolean hasMore;                // true면 nextToken으로 바로 이어서 요청
+}
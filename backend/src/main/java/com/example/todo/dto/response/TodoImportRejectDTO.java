@@ -0,0 +1,11 @@
+package com.example.todo.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class TodoImportRejectDTO {
+    private long line;      // 요청 본문에서의 줄 번호 (1부터)
+    private String reason;
+}
@@ -0,0 +1,15 @@
+package com.example.todo.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class TodoImportResultDTO {
+    private long received;      // 읽은 행 수 (빈 줄, CSV 헤더 제외)
+    private long imported;      // 추가된 행 수
+    private long rejected;      // 거부된 행 수
+    private List<TodoImportRejectDTO> rejectedLines;    // 거부 사유 (앞에서부터 최대 100건)
+}
@@ -17,6 +17,7 @@ public class TodoResponseDTO {
     private LocalDateTime createdAt;
     @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
     private LocalDateTime completedAt;
+    private long version;
 
     public TodoResponseDTO(Todos todos) {
         this.id = todos.getId();
@@ -24,5 +25,6 @@ public class TodoResponseDTO {
         this.status = todos.getStatus().name();
         this.createdAt = todos.getCreatedAt();
         this.completedAt = todos.getCompletedAt();
+        this.version = todos.getVersion();
     }
 }
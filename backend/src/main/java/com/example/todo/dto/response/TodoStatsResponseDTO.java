@@ -0,0 +1,24 @@
+package com.example.todo.dto.response;
+
+import com.example.todo.domain.TodoCounter;
+import lombok.Getter;
+
+@Getter
+public class TodoStatsResponseDTO {
+    private long total;
+    private long todo;
+    private long inProgress;
+    private long done;
+    private double completionRate;              // done / total (투두가 없으면 0)
+    private Double averageCompletionSeconds;    // 평균 완료 소요 시간(초), 완료일을 아는 DONE 투두가 없으면 null
+
+    public TodoStatsResponseDTO(TodoCounter counter) {
+        this.total = counter.getTotalCount();
+        this.todo = counter.getTodoCount();
+        this.inProgress = counter.getInProgressCount();
+        this.done = counter.getDoneCount();
+        this.completionRate = total == 0 ? 0 : (double) done / total;
+        this.averageCompletionSeconds = counter.getDoneTimedCount() == 0 ? null
+                : (double) counter.getDoneDurationSeconds() / counter.getDoneTimedCount();
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.todo.dto.response;
+
+import com.example.todo.event.TodoChangeType;
+import com.example.todo.event.TodoChangedEvent;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class TodoStreamEventDTO {
+    private String type;            // CREATED, UPDATED, DELETED
+    private long id;
+    private TodoResponseDTO data;   // 생성/수정 후 투두 (삭제면 null)
+
+    public static TodoStreamEventDTO from(TodoChangedEvent event) {
+        TodoResponseDTO data = event.getType() == TodoChangeType.DELETED ? null : new TodoResponseDTO(event.getTodos());
+        return new TodoStreamEventDTO(event.getType().name(), event.getTodos().getId(), data);
+    }
+}
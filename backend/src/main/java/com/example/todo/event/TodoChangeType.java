@@ -0,0 +1,8 @@
+package com.example.todo.event;
+
+public enum TodoChangeType {
+    CREATED,    // 생성
+    UPDATED,    // 수정
+    DELETED,    // 삭제
+    IMPORTED    // 가져오기로 여러 건 추가 (todos는 null, 구독자는 사용자 단위로 다시 읽음)
+}
@@ -0,0 +1,15 @@
+package com.example.todo.event;
+
+import com.example.todo.domain.Todos;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 투두 변경 이벤트
+// TodoService가 발행하고, 커밋 이후 색인/알림 등 부가 기능이 구독
+@Getter
+@AllArgsConstructor
+public class TodoChangedEvent {
+    private long userId;
+    private TodoChangeType type;
+    private Todos todos;    // 변경 후 투두 (삭제면 삭제된 투두, 가져오기면 null)
+}
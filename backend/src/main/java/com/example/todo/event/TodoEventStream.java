@@ -0,0 +1,213 @@
+package com.example.todo.event;
+
+import com.example.todo.dto.response.TodoStreamEventDTO;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 사용자별 투두 변경 SSE 스트림 (GET /api/todos/stream)
+// 연결은 SseEmitter(비동기 서블릿)로 유지하므로 연결마다 요청 스레드를 잡고 있지 않음
+// 전송은 연결마다 크기가 정해진 버퍼를 두고 작은 전송 스레드 풀에서 처리
+// 버퍼가 가득 찬(느린) 연결은 쌓인 변경을 버리고 resync 이벤트를 보내서 클라이언트가 목록을 다시 조회하게 함
+@Slf4j
+@Component
+public class TodoEventStream {
+    private final ConcurrentMap<Long, List<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final ExecutorService sender;
+    private final ScheduledExecutorService heartbeat;
+    private final int bufferSize;
+    private final long timeoutMs;
+    private final int maxConnectionsPerUser;
+
+    public TodoEventStream(@Value("${todo.stream.buffer-size:100}") int bufferSize,
+                           @Value("${todo.stream.timeout-minutes:30}") long timeoutMinutes,
+                           @Value("${todo.stream.max-connections-per-user:5}") int maxConnectionsPerUser,
+                           @Value("${todo.stream.sender-threads:4}") int senderThreads,
+                           @Value("${todo.stream.heartbeat-seconds:15}") long heartbeatSeconds) {
+        this.bufferSize = bufferSize;
+        this.timeoutMs = TimeUnit.MINUTES.toMillis(timeoutMinutes);
+        this.maxConnectionsPerUser = maxConnectionsPerUser;
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.sender = Executors.newFixedThreadPool(senderThreads, r -> {
+            Thread thread = new Thread(r, "todo-stream-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.heartbeat = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "todo-stream-heartbeat");
+            thread.setDaemon(true);
+            return thread;
+        });
+        // 프록시/로드밸런서가 유휴 연결을 끊지 않도록 주기적으로 주석(ping) 전송
+        heartbeat.scheduleAtFixedRate(this::sendHeartbeats, heartbeatSeconds, heartbeatSeconds, TimeUnit.SECONDS);
+    }
+
+    // 연결 등록, 사용자당 연결 수를 넘으면 가장 오래된 연결을 닫음
+    public SseEmitter subscribe(long userId) {
+        SseEmitter emitter = createEmitter(timeoutMs);
+        Subscriber subscriber = new Subscriber(userId, emitter);
+        emitter.onCompletion(() -> remove(subscriber));
+        emitter.onTimeout(() -> remove(subscriber));
+        emitter.onError(e -> remove(subscriber));
+
+        List<Subscriber> list = subscribers.compute(userId, (id, current) -> {
+            List<Subscriber> result = current == null ? new CopyOnWriteArrayList<>() : current;
+            result.add(subscriber);
+            return result;
+        });
+        while (list.size() > maxConnectionsPerUser) {
+            Subscriber oldest = list.get(0);
+            list.remove(oldest);
+            oldest.close();
+        }
+
+        // 연결 직후 한 번 알림 (클라이언트는 이 시점 기준으로 목록을 조회한 뒤 변경분만 반영)
+        subscriber.requestResync();
+        return emitter;
+    }
+
+    // 커밋된 변경만 전송
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTodoChanged(TodoChangedEvent event) {
+        List<Subscriber> list = subscribers.get(event.getUserId());
+        if (list == null) {
+            return;
+        }
+        // 가져오기는 변경 건수가 많으므로 개별 전송 대신 다시 조회하게 함
+        if (event.getType() == TodoChangeType.IMPORTED) {
+            list.forEach(Subscriber::requestResync);
+            return;
+        }
+        TodoStreamEventDTO payload = TodoStreamEventDTO.from(event);
+        for (Subscriber subscriber : list) {
+            subscriber.offer(payload);
+        }
+    }
+
+    // 테스트에서 전송 내용을 기록하는 emitter로 바꿀 수 있도록 분리
+    SseEmitter createEmitter(long timeoutMs) {
+        return new SseEmitter(timeoutMs);
+    }
+
+    void sendHeartbeats() {
+        subscribers.values().forEach(list -> list.forEach(Subscriber::requestHeartbeat));
+    }
+
+    private void remove(Subscriber subscriber) {
+        subscriber.closed = true;
+        subscribers.computeIfPresent(subscriber.userId, (id, list) -> {
+            list.remove(subscriber);
+            return list.isEmpty() ? null : list;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        heartbeat.shutdownNow();
+        sender.shutdownNow();
+        subscribers.values().forEach(list -> list.forEach(Subscriber::close));
+    }
+
+    private class Subscriber {
+        private final long userId;
+        private final SseEmitter emitter;
+        private final BlockingQueue<TodoStreamEventDTO> queue;
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private volatile boolean resync;
+        private volatile boolean heartbeatDue;
+        private volatile boolean closed;
+
+        Subscriber(long userId, SseEmitter emitter) {
+            this.userId = userId;
+            this.emitter = emitter;
+            this.queue = new ArrayBlockingQueue<>(bufferSize);
+        }
+
+        void offer(TodoStreamEventDTO payload) {
+            if (!queue.offer(payload)) {
+                // 버퍼가 가득 차면 쌓인 변경은 의미가 없으므로 버리고 resync로 대체
+                queue.clear();
+                resync = true;
+            }
+            schedule();
+        }
+
+        void requestResync() {
+            queue.clear();
+            resync = true;
+            schedule();
+        }
+
+        void requestHeartbeat() {
+            heartbeatDue = true;
+            schedule();
+        }
+
+        // 연결마다 전송 작업은 최대 하나만 실행되므로 같은 emitter에 동시에 쓰지 않음
+        private void schedule() {
+            if (closed || !scheduled.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                sender.execute(this::drain);
+            } catch (RuntimeException e) {
+                scheduled.set(false);
+            }
+        }
+
+        private void drain() {
+            try {
+                if (resync) {
+                    resync = false;
+                    emitter.send(SseEmitter.event().name("resync").data("{}", MediaType.APPLICATION_JSON));
+                }
+                TodoStreamEventDTO payload;
+                while (!resync && (payload = queue.poll()) != null) {
+                    emitter.send(SseEmitter.event().name("todo").data(payload, MediaType.APPLICATION_JSON));
+                }
+                if (heartbeatDue) {
+                    heartbeatDue = false;
+                    emitter.send(SseEmitter.event().comment("ping"));
+                }
+            } catch (IOException | IllegalStateException e) {
+                // 클라이언트가 연결을 끊은 경우
+                log.debug("Todo stream closed for user {}: {}", userId, e.getMessage());
+                remove(this);
+                return;
+            } finally {
+                scheduled.set(false);
+            }
+            // 전송 중에 새로 들어온 이벤트 처리
+            if (resync || heartbeatDue || !queue.isEmpty()) {
+                schedule();
+            }
+        }
+
+        void close() {
+            closed = true;
+            try {
+                emitter.complete();
+            } catch (IllegalStateException ignored) {
+                // 이미 종료된 연결
+            }
+        }
+    }
+}
@@ -2,11 +2,13 @@ package com.example.todo.exception;
 
 import com.example.todo.common.ApiResponseDTO;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.method.annotation.HandlerMethodValidationException;
 
 import java.util.stream.Collectors;
 
@@ -25,6 +27,16 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(ApiResponseDTO.error(HttpStatus.BAD_REQUEST.value(), errors));
     }
 
+    // 요청 파라미터 유효성 검사 실패 처리 (@RequestParam @Email 등)
+    @ExceptionHandler(HandlerMethodValidationException.class)
+    public ResponseEntity<ApiResponseDTO<Object>> handleHandlerMethodValidationException(HandlerMethodValidationException ex) {
+        String errors = ex.getAllErrors()
+                .stream()
+                .map(e -> e.getDefaultMessage())
+                .collect(Collectors.joining(", "));
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(ApiResponseDTO.error(HttpStatus.BAD_REQUEST.value(), errors));
+    }
+
     // 커스텀 DuplicateEmailException 처리 (409)
     @ExceptionHandler(DuplicateEmailException.class)
     public ResponseEntity<ApiResponseDTO<Object>> handleDuplicateEmailException(DuplicateEmailException ex) {
@@ -49,12 +61,33 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(ApiResponseDTO.error(HttpStatus.NOT_FOUND.value(), ex.getMessage()));
     }
 
+    // 커스텀 TodoConflictException 처리 (409)
+    @ExceptionHandler(TodoConflictException.class)
+    public ResponseEntity<ApiResponseDTO<Object>> handleTodoConflictException(TodoConflictException ex) {
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(ApiResponseDTO.error(HttpStatus.CONFLICT.value(), ex.getMessage()));
+    }
+
     // 커스텀 LoginFailedException 처리 (401 Unauthorized)
     @ExceptionHandler(LoginFailedException.class)
     public ResponseEntity<ApiResponseDTO<Object>> handleLoginFailedException(LoginFailedException ex) {
         return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(ApiResponseDTO.error(HttpStatus.UNAUTHORIZED.value(), ex.getMessage()));
     }
 
+    // 커스텀 ServerBusyException 처리 (503 Service Unavailable)
+    @ExceptionHandler(ServerBusyException.class)
+    public ResponseEntity<ApiResponseDTO<Object>> handleServerBusyException(ServerBusyException ex) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(ApiResponseDTO.error(HttpStatus.SERVICE_UNAVAILABLE.value(), ex.getMessage()));
+    }
+
+    // 커스텀 ShardRoutingException 처리 (500, 인증 오류로 보이지 않도록 IllegalStateException과 분리)
+    @ExceptionHandler(ShardRoutingException.class)
+    public ResponseEntity<ApiResponseDTO<Object>> handleShardRoutingException(ShardRoutingException ex) {
+        log.error("Shard routing failed", ex);
+        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(ApiResponseDTO.error(HttpStatus.INTERNAL_SERVER_ERROR.value(), "서버 오류가 발생했습니다."));
+    }
+
     // 그 외 모든 예외 처리
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ApiResponseDTO<Object>> handleException(Exception ex) {
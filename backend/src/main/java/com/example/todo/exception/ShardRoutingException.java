@@ -0,0 +1,8 @@
+package com.example.todo.exception;
+
+// 샤드를 정할 수 없거나 샤드 디렉터리/이동 상태가 맞지 않을 때 (서버 설정·데이터 문제이므로 500)
+public class ShardRoutingException extends RuntimeException {
+    public ShardRoutingException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package com.example.todo.exception;
+
+public class TodoConflictException extends RuntimeException {
+    public TodoConflictException(String message) {
+        super(message);
+    }
+}
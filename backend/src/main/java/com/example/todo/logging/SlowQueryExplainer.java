@@ -0,0 +1,127 @@
+package com.example.todo.logging;
+
+import com.example.todo.datasource.ShardContext;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+// 느린 쿼리의 실행 계획(EXPLAIN) 수집
+// 요청 트랜잭션과 분리된 커넥션으로 전용 스레드 하나에서 실행하고, 같은 구문은 explain-interval-seconds에 한 번만 실행
+// 대기열이 가득 차면 버림 (DB가 느린 상황에서 EXPLAIN이 부하를 더하지 않도록)
+// 샤딩을 켜면 구문을 실행한 샤드(ShardContext)를 대기열에 넣을 때 함께 넘겨 같은 샤드에서 EXPLAIN
+@Slf4j
+@Component
+public class SlowQueryExplainer {
+    private static final Logger slowLog = LoggerFactory.getLogger("sql.slow");
+
+    private final DataSource dataSource;
+    private final boolean enabled;
+    private final long intervalNanos;
+    private final ThreadPoolExecutor executor;
+    // 구문 ID -> 마지막 EXPLAIN 시각
+    private final ConcurrentMap<String, Long> lastExplained = new ConcurrentHashMap<>();
+
+    public SlowQueryExplainer(DataSource dataSource,
+                              @Value("${todo.sql-log.explain:true}") boolean enabled,
+                              @Value("${todo.sql-log.explain-interval-seconds:60}") long intervalSeconds) {
+        this.dataSource = dataSource;
+        this.enabled = enabled;
+        this.intervalNanos = TimeUnit.SECONDS.toNanos(intervalSeconds);
+        this.executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(16),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "sql-explain");
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    public void explain(String statementId, String sql, List<Object> parameters) {
+        if (!enabled || !shouldExplain(statementId)) {
+            return;
+        }
+        // 실행 스레드가 바뀌므로 ShardRoutingInterceptor가 설정한 샤드를 여기서 읽어 둠
+        Integer shard = ShardContext.current();
+        try {
+            executor.execute(() -> run(statementId, shard, sql, parameters));
+        } catch (RejectedExecutionException e) {
+            // 대기 중인 EXPLAIN이 많으면 이번 것은 건너뜀
+        }
+    }
+
+    private boolean shouldExplain(String statementId) {
+        long now = System.nanoTime();
+        Long last = lastExplained.get(statementId);
+        if (last != null && now - last < intervalNanos) {
+            return false;
+        }
+        // 동시에 들어온 같은 구문은 먼저 갱신한 쪽만 실행
+        return last == null ? lastExplained.putIfAbsent(statementId, now) == null : lastExplained.replace(statementId, last, now);
+    }
+
+    private void run(String statementId, Integer shard, String sql, List<Object> parameters) {
+        if (shard == null) {
+            explainOn(statementId, sql, parameters);
+            return;
+        }
+        ShardContext.callOn(shard, () -> {
+            explainOn(statementId, sql, parameters);
+            return null;
+        });
+    }
+
+    private void explainOn(String statementId, String sql, List<Object> parameters) {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement("EXPLAIN " + sql)) {
+            for (int i = 0; i < parameters.size(); i++) {
+                Object value = parameters.get(i);
+                // 타입 핸들러(TodoStatusTypeHandler 등)를 거치지 않으므로 enum은 이름으로 바인딩
+                statement.setObject(i + 1, value instanceof Enum<?> e ? e.name() : value);
+            }
+            try (ResultSet rs = statement.executeQuery()) {
+                slowLog.warn("explain statement={}{}", statementId, format(rs));
+            }
+        } catch (SQLException e) {
+            log.debug("EXPLAIN failed for {}: {}", statementId, e.getMessage());
+        }
+    }
+
+    // 행마다 "컬럼=값" 한 줄
+    private String format(ResultSet rs) throws SQLException {
+        ResultSetMetaData meta = rs.getMetaData();
+        StringBuilder plan = new StringBuilder();
+        while (rs.next()) {
+            plan.append("\n  ");
+            for (int i = 1; i <= meta.getColumnCount(); i++) {
+                if (i > 1) {
+                    plan.append(", ");
+                }
+                plan.append(meta.getColumnLabel(i)).append('=').append(rs.getString(i));
+            }
+        }
+        return plan.toString();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+}
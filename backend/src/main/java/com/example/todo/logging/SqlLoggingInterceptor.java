@@ -0,0 +1,154 @@
+package com.example.todo.logging;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.ibatis.cache.CacheKey;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.mapping.ParameterMapping;
+import org.apache.ibatis.mapping.ParameterMode;
+import org.apache.ibatis.mapping.SqlCommandType;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Signature;
+import org.apache.ibatis.reflection.MetaObject;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.session.RowBounds;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+// SQL 로그 (StdOutImpl 대체)
+// - 샘플링: sample-rate 비율의 구문만 "sql" 로거에 구문 ID, 실행 시간, 행 수, SQL 기록 (파라미터 제외)
+// - 느린 쿼리: slow-threshold-ms 이상이면 "sql.slow" 로거에 바인딩된 파라미터와 함께 항상 기록하고 EXPLAIN 요청
+// 로그 출력은 logback-spring.xml의 비동기 버퍼를 거치므로 요청 스레드는 큐에 넣기만 함
+// 기록하지 않는 구문은 시간 측정 외에 추가 비용 없음 (SQL/파라미터는 기록할 때만 구함)
+// 가장 안쪽 플러그인으로 등록 (ShardRoutingInterceptor가 설정한 ShardContext 안에서 EXPLAIN을 요청하도록)
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@Intercepts({
+        @Signature(type = Executor.class, method = "update", args = {MappedStatement.class, Object.class}),
+        @Signature(type = Executor.class, method = "query", args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class}),
+        @Signature(type = Executor.class, method = "query", args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class, CacheKey.class, BoundSql.class}),
+        @Signature(type = Executor.class, method = "queryCursor", args = {MappedStatement.class, Object.class, RowBounds.class})
+})
+public class SqlLoggingInterceptor implements Interceptor {
+    private static final Logger sqlLog = LoggerFactory.getLogger("sql");
+    private static final Logger slowLog = LoggerFactory.getLogger("sql.slow");
+
+    private final SlowQueryExplainer slowQueryExplainer;
+    private final double sampleRate;
+    private final long slowThresholdNanos;
+    private final int maxLoggedParameters;
+    private final Counter slowCounter;
+
+    public SqlLoggingInterceptor(SlowQueryExplainer slowQueryExplainer,
+                                 @Value("${todo.sql-log.sample-rate:0}") double sampleRate,
+                                 @Value("${todo.sql-log.slow-threshold-ms:200}") long slowThresholdMs,
+                                 @Value("${todo.sql-log.max-logged-parameters:50}") int maxLoggedParameters,
+                                 MeterRegistry meterRegistry) {
+        this.slowQueryExplainer = slowQueryExplainer;
+        this.sampleRate = sampleRate;
+        this.slowThresholdNanos = TimeUnit.MILLISECONDS.toNanos(slowThresholdMs);
+        this.maxLoggedParameters = maxLoggedParameters;
+        this.slowCounter = Counter.builder("mybatis.statement.slow").register(meterRegistry);
+    }
+
+    @Override
+    public Object intercept(Invocation invocation) throws Throwable {
+        long start = System.nanoTime();
+        Object result = invocation.proceed();
+        long elapsed = System.nanoTime() - start;
+
+        if (elapsed >= slowThresholdNanos) {
+            logSlow(invocation, elapsed);
+        } else if (sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate && sqlLog.isInfoEnabled()) {
+            MappedStatement statement = (MappedStatement) invocation.getArgs()[0];
+            sqlLog.info("statement={} elapsedMs={} rows={} sql={}", statement.getId(), toMillis(elapsed), rows(result),
+                    compact(boundSql(invocation).getSql()));
+        }
+        return result;
+    }
+
+    private void logSlow(Invocation invocation, long elapsed) {
+        slowCounter.increment();
+        MappedStatement statement = (MappedStatement) invocation.getArgs()[0];
+        BoundSql boundSql = boundSql(invocation);
+        List<Object> parameters = parameters(statement.getConfiguration(), boundSql, invocation.getArgs()[1]);
+        String sql = compact(boundSql.getSql());
+
+        List<Object> logged = parameters.size() > maxLoggedParameters ? parameters.subList(0, maxLoggedParameters) : parameters;
+        slowLog.warn("statement={} elapsedMs={} sql={} parameters={}{}", statement.getId(), toMillis(elapsed), sql, logged,
+                logged.size() < parameters.size() ? " (+" + (parameters.size() - logged.size()) + " more)" : "");
+
+        // 여러 행 INSERT 등은 실행 계획이 의미 없으므로 조회/수정/삭제만
+        SqlCommandType command = statement.getSqlCommandType();
+        if (command == SqlCommandType.SELECT || command == SqlCommandType.UPDATE || command == SqlCommandType.DELETE) {
+            slowQueryExplainer.explain(statement.getId(), sql, parameters);
+        }
+    }
+
+    private BoundSql boundSql(Invocation invocation) {
+        Object[] args = invocation.getArgs();
+        if (args.length == 6) {
+            return (BoundSql) args[5];
+        }
+        return ((MappedStatement) args[0]).getBoundSql(args[1]);
+    }
+
+    // DefaultParameterHandler와 같은 방식으로 ? 순서대로 값을 구함
+    private List<Object> parameters(Configuration configuration, BoundSql boundSql, Object parameterObject) {
+        List<Object> values = new ArrayList<>();
+        MetaObject metaObject = null;
+        for (ParameterMapping mapping : boundSql.getParameterMappings()) {
+            if (mapping.getMode() == ParameterMode.OUT) {
+                continue;
+            }
+            String property = mapping.getProperty();
+            Object value;
+            if (boundSql.hasAdditionalParameter(property)) {
+                value = boundSql.getAdditionalParameter(property);
+            } else if (parameterObject == null) {
+                value = null;
+            } else if (configuration.getTypeHandlerRegistry().hasTypeHandler(parameterObject.getClass())) {
+                value = parameterObject;
+            } else {
+                if (metaObject == null) {
+                    metaObject = configuration.newMetaObject(parameterObject);
+                }
+                value = metaObject.getValue(property);
+            }
+            values.add(value);
+        }
+        return values;
+    }
+
+    private Object rows(Object result) {
+        if (result instanceof Collection<?> collection) {
+            return collection.size();
+        }
+        return result instanceof Integer ? result : "-";
+    }
+
+    private static String compact(String sql) {
+        return sql.replaceAll("\\s+", " ").trim();
+    }
+
+    private static long toMillis(long nanos) {
+        return TimeUnit.NANOSECONDS.toMillis(nanos);
+    }
+}
@@ -4,22 +4,25 @@ import com.example.todo.domain.RefreshToken;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 @Mapper
 public interface RefreshTokenMapper {
-    // 토큰 값으로 리프레쉬 토큰 정보 찾기
-    Optional<RefreshToken> findByToken(@Param("token") String token);
+    // 토큰 다이제스트(SHA-256)로 리프레쉬 토큰 정보 찾기 (유니크 인덱스 조회)
+    // userId는 샤딩을 켰을 때 샤드를 정하는 데 사용 (다른 사용자의 토큰이면 찾지 않음)
+    Optional<RefreshToken> findByTokenHash(@Param("userId") long userId, @Param("tokenHash") String tokenHash);
 
-    // 사용자 ID로 리프레쉬 토큰 정보 찾기
-    Optional<RefreshToken> findByUserId(@Param("userId") long userId);
+    // 사용자의 리프레쉬 토큰 저장 (있으면 교체)
+    void upsert(RefreshToken refreshToken);
 
-    // 새로운 리프레쉬 토큰 저장
-    void save(RefreshToken refreshToken);
-
-    // 기존 리프레쉬 토큰 업데이트
-    void update(RefreshToken refreshToken);
-    
     // 사용자 ID로 리프레쉬 토큰 삭제
     void deleteByUserId(@Param("userId") long userId);
+
+    // before 이전에 만료된 토큰 ID를 만료일 순서로 size개 (만료일 인덱스만 읽음)
+    List<Long> findExpiredIds(@Param("before") LocalDateTime before, @Param("size") int size);
+
+    // 조회한 ID 중 아직 만료 상태인 것만 삭제 (그 사이 다시 로그인해서 교체된 토큰은 남김)
+    int deleteExpiredByIds(@Param("ids") List<Long> ids, @Param("before") LocalDateTime before);
 }
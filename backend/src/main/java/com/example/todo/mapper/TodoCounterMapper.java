@@ -0,0 +1,27 @@
+package com.example.todo.mapper;
+
+import com.example.todo.domain.TodoCounter;
+import com.example.todo.domain.TodoCounterDelta;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+@Mapper
+public interface TodoCounterMapper {
+
+    TodoCounter findByUserId(@Param("userId") long userId);
+
+    // 마지막으로 발급된 변경 순번 (행이 없으면 null)
+    Long findChangeSeq(@Param("userId") long userId);
+
+    // 변화량을 더하고 변경 순번을 changeSeqCount만큼 증가, 증가된 순번은 delta.changeSeq에 채움 (행이 없으면 0 반환)
+    int applyChange(TodoCounterDelta delta);
+
+    // 변경 순번을 count만큼 증가 (행이 없으면 0 반환)
+    int advanceChangeSeq(@Param("userId") long userId, @Param("count") int count);
+
+    // 같은 커넥션에서 직전 advanceChangeSeq로 증가된 값
+    long lastChangeSeq();
+
+    // todos 테이블을 한 번 집계해서 행 생성 (이미 있으면 무시)
+    int initialize(@Param("userId") long userId);
+}
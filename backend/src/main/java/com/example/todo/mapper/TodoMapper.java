@@ -3,8 +3,12 @@ package com.example.todo.mapper;
 import com.example.todo.domain.Todos;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.cursor.Cursor;
+import org.apache.ibatis.session.ResultHandler;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Mapper
@@ -12,22 +16,52 @@ public interface TodoMapper {
 
     void insert(Todos todos);
 
+    // 여러 행을 INSERT 한 번으로 추가 (생성된 ID는 채우지 않음)
+    int insertAll(@Param("todos") List<Todos> todos);
+
     List<Todos> findByUserId(@Param("userId") Long userId,
                              @Param("offset") int offset,
                              @Param("size") int size,
                              @Param("keyword") String keyword,
+                             @Param("ids") Collection<Long> ids,
                              @Param("startDate") LocalDate startDate,
                              @Param("endDate") LocalDate endDate);
 
+    // 커서 기반 조회 (cursorCreatedAt이 null이면 첫 페이지)
+    List<Todos> findByUserIdAfterCursor(@Param("userId") Long userId,
+                                        @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                                        @Param("cursorId") Long cursorId,
+                                        @Param("size") int size,
+                                        @Param("keyword") String keyword,
+                                        @Param("ids") Collection<Long> ids,
+                                        @Param("startDate") LocalDate startDate,
+                                        @Param("endDate") LocalDate endDate);
+
     Todos findByIdAndUserId(@Param("id") Long id, @Param("userId") Long userId);
 
-    void update(Todos todos);
+    List<Todos> findByIdsAndUserId(@Param("ids") Collection<Long> ids, @Param("userId") Long userId);
+
+    // 반환값: 수정된 행 수 (version이 다르면 0)
+    int update(Todos todos);
 
-    void deleteByIdAndUserId(@Param("id") Long id, @Param("userId") Long userId);
+    // version이 null이면 버전 확인 없이 삭제
+    int deleteByIdAndUserId(@Param("id") Long id, @Param("userId") Long userId, @Param("version") Long version);
 
     long countByUserId(@Param("userId") Long userId,
                        @Param("keyword") String keyword,
+                       @Param("ids") Collection<Long> ids,
                        @Param("startDate") LocalDate startDate,
                        @Param("endDate") LocalDate endDate);
 
+    // 제목 색인 생성용으로 사용자의 (id, title)을 한 행씩 전달
+    void findTitlesByUserId(@Param("userId") Long userId, ResultHandler<Todos> handler);
+
+    // 변경분 동기화용: (changeSeq, id) 이후에 생성/수정된 투두를 순번 순서로 조회
+    List<Todos> findChangedSince(@Param("userId") Long userId,
+                                 @Param("changeSeq") long changeSeq,
+                                 @Param("id") long id,
+                                 @Param("size") int size);
+
+    // 내보내기용으로 사용자의 투두를 한 행씩 읽음 (트랜잭션 안에서 끝까지 읽고 닫아야 함)
+    Cursor<Todos> streamByUserId(@Param("userId") Long userId);
 }
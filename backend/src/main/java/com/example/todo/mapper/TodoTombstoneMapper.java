@@ -0,0 +1,19 @@
+package com.example.todo.mapper;
+
+import com.example.todo.domain.TodoTombstone;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.util.List;
+
+@Mapper
+public interface TodoTombstoneMapper {
+
+    void insert(@Param("userId") long userId, @Param("todoId") long todoId, @Param("changeSeq") long changeSeq);
+
+    // (changeSeq, todoId) 이후의 삭제 기록을 순번 순서로 조회
+    List<TodoTombstone> findSince(@Param("userId") long userId,
+                                  @Param("changeSeq") long changeSeq,
+                                  @Param("todoId") long todoId,
+                                  @Param("size") int size);
+}
@@ -3,6 +3,7 @@ package com.example.todo.mapper;
 import com.example.todo.domain.User;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.session.ResultHandler;
 
 import java.util.Optional;
 
@@ -13,4 +14,11 @@ public interface UserMapper {
     void insert(User user);
 
     Optional<User> findById(@Param("id") long id);
+
+    boolean existsById(@Param("id") long id);
+
+    void updatePassword(@Param("id") Long id, @Param("password") String password);
+
+    // id가 afterId보다 큰 사용자의 id, 이메일을 한 행씩 전달 (결과를 메모리에 모으지 않음, 0이면 전체)
+    void scanEmails(@Param("afterId") long afterId, ResultHandler<User> handler);
 }
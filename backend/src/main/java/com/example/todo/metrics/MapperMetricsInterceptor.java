@@ -0,0 +1,70 @@
+package com.example.todo.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.apache.ibatis.cache.CacheKey;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Signature;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.session.RowBounds;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+// 매퍼 구문별 실행 시간 (mybatis.statement{statement="TodoMapper.findByUserId", command, outcome})
+// 인터셉터 빈은 MyBatis 자동 설정이 SqlSessionFactory에 등록하므로 모든 매퍼에 적용됨
+// - Cursor 조회는 커서를 여는 시간까지만, BATCH 실행기의 INSERT/UPDATE는 대기열에 넣는 시간만 측정됨
+@Component
+@Intercepts({
+        @Signature(type = Executor.class, method = "update", args = {MappedStatement.class, Object.class}),
+        @Signature(type = Executor.class, method = "query", args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class}),
+        @Signature(type = Executor.class, method = "query", args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class, CacheKey.class, BoundSql.class}),
+        @Signature(type = Executor.class, method = "queryCursor", args = {MappedStatement.class, Object.class, RowBounds.class})
+})
+public class MapperMetricsInterceptor implements Interceptor {
+    private final MeterRegistry meterRegistry;
+    // 구문 ID + 결과 -> Timer (요청마다 빌더로 조회하지 않도록 보관)
+    private final ConcurrentMap<String, Timer> timers = new ConcurrentHashMap<>();
+
+    public MapperMetricsInterceptor(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Object intercept(Invocation invocation) throws Throwable {
+        MappedStatement statement = (MappedStatement) invocation.getArgs()[0];
+        long start = System.nanoTime();
+        boolean success = false;
+        try {
+            Object result = invocation.proceed();
+            success = true;
+            return result;
+        } finally {
+            timer(statement, success).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private Timer timer(MappedStatement statement, boolean success) {
+        String outcome = success ? "success" : "error";
+        return timers.computeIfAbsent(statement.getId() + ":" + outcome, key -> Timer.builder("mybatis.statement")
+                .description("MyBatis mapped statement execution time")
+                .tag("statement", shortId(statement.getId()))
+                .tag("command", statement.getSqlCommandType().name())
+                .tag("outcome", outcome)
+                .register(meterRegistry));
+    }
+
+    // com.example.todo.mapper.TodoMapper.findByUserId -> TodoMapper.findByUserId
+    static String shortId(String id) {
+        int method = id.lastIndexOf('.');
+        int type = method > 0 ? id.lastIndexOf('.', method - 1) : -1;
+        return type >= 0 ? id.substring(type + 1) : id;
+    }
+}
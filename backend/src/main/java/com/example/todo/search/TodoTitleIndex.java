@@ -0,0 +1,172 @@
+package com.example.todo.search;
+
+import com.example.todo.domain.TodoTombstone;
+import com.example.todo.domain.Todos;
+import com.example.todo.mapper.TodoCounterMapper;
+import com.example.todo.mapper.TodoMapper;
+import com.example.todo.mapper.TodoTombstoneMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+// 사용자별 투두 제목 n-gram 역색인 (애플리케이션 메모리)
+// 처음 검색할 때 해당 사용자의 제목을 한 번 읽어서 만들고, 만든 시점의 변경 순번(todo_counters.change_seq)을 같이 기록
+// 검색할 때마다 현재 변경 순번을 읽어(기본 키 조회) 앞서 있으면 그 사이 바뀐 투두와 삭제 기록만 읽어 반영
+// 순번은 DB 값이므로 다른 서버에서 커밋된 변경도 다음 검색 때 반영됨
+// 전체 크기는 포스팅 항목 수 합계(max-postings)로 제한하고, 한동안 검색하지 않은 사용자의 색인은 제거
+@Slf4j
+@Component
+public class TodoTitleIndex {
+    private final TodoMapper todoMapper;
+    private final TodoCounterMapper todoCounterMapper;
+    private final TodoTombstoneMapper todoTombstoneMapper;
+    private final boolean enabled;
+    private final int maxCandidates;
+    private final int maxCatchUp;
+    private final Cache<Long, Entry> indexes;
+
+    private final Counter catchUpCounter;
+    private final Counter rebuildCounter;
+
+    public TodoTitleIndex(TodoMapper todoMapper,
+                          TodoCounterMapper todoCounterMapper,
+                          TodoTombstoneMapper todoTombstoneMapper,
+                          @Value("${todo.search.ngram-index.enabled:true}") boolean enabled,
+                          // 후보가 이보다 많으면 IN 조건이 커지므로 LIKE 조회로 처리
+                          @Value("${todo.search.ngram-index.max-candidates:1000}") int maxCandidates,
+                          @Value("${todo.search.ngram-index.max-postings:5000000}") long maxPostings,
+                          @Value("${todo.search.ngram-index.idle-minutes:30}") long idleMinutes,
+                          // 밀린 변경이 이보다 많으면(가져오기 등) 따라잡지 않고 새로 만듦
+                          @Value("${todo.search.ngram-index.max-catch-up:1000}") int maxCatchUp,
+                          MeterRegistry meterRegistry) {
+        this.todoMapper = todoMapper;
+        this.todoCounterMapper = todoCounterMapper;
+        this.todoTombstoneMapper = todoTombstoneMapper;
+        this.enabled = enabled;
+        this.maxCandidates = maxCandidates;
+        this.maxCatchUp = maxCatchUp;
+        // 색인 크기는 만들거나 갱신한 뒤 같은 항목을 다시 넣을 때(reweigh) 다시 계산됨
+        this.indexes = Caffeine.newBuilder()
+                .maximumWeight(maxPostings)
+                .weigher((Long userId, Entry entry) -> entry.weight())
+                .expireAfterAccess(Duration.ofMinutes(idleMinutes))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, indexes, "todo.title-index");
+        // todo.title-index.sync{result=catch_up}: 밀린 변경만 반영, rebuild: 새로 만듦(처음 포함)
+        this.catchUpCounter = Counter.builder("todo.title-index.sync").tag("result", "catch_up").register(meterRegistry);
+        this.rebuildCounter = Counter.builder("todo.title-index.sync").tag("result", "rebuild").register(meterRegistry);
+    }
+
+    // 키워드를 포함하는 투두 ID 목록 반환
+    // 색인으로 처리할 수 없는 경우(비활성화, 1글자 키워드, 후보 과다) null 반환
+    // 목록 조회와 같은 읽기 트랜잭션 안에서 호출되므로 순번, 밀린 변경, 이어지는 IN 조회가 같은 스냅샷을 봄
+    public List<Long> search(long userId, String keyword) {
+        if (!enabled) {
+            return null;
+        }
+        List<Long> ids = getOrSync(userId).search(keyword);
+        if (ids != null && ids.size() > maxCandidates) {
+            return null;
+        }
+        return ids;
+    }
+
+    // 사용자 색인 삭제 (다음 검색 때 다시 생성)
+    public void invalidate(long userId) {
+        indexes.invalidate(userId);
+    }
+
+    // 로더를 캐시의 get(key, loader) 안(synchronized)에서 실행하면 가상 스레드가 캐리어 스레드에 고정되므로
+    // 자리만 먼저 만들고 생성/따라잡기는 사용자별 ReentrantLock 안에서 실행
+    private UserTitleIndex getOrSync(long userId) {
+        Entry entry = indexes.get(userId, id -> new Entry());
+        long current = currentChangeSeq(userId);
+        boolean changed = false;
+        entry.lock.lock();
+        try {
+            // 복제본 지연으로 색인보다 오래된 순번을 읽었으면 그대로 사용 (색인에만 있는 ID는 IN 조회에서 걸러짐)
+            if (entry.index == null || current > entry.changeSeq) {
+                changed = true;
+                if (entry.index == null || !catchUp(userId, entry, current)) {
+                    entry.index = load(userId);
+                    rebuildCounter.increment();
+                } else {
+                    catchUpCounter.increment();
+                }
+                entry.changeSeq = current;
+            }
+            return entry.index;
+        } finally {
+            entry.lock.unlock();
+            if (changed) {
+                reweigh(userId, entry);
+            }
+        }
+    }
+
+    private long currentChangeSeq(long userId) {
+        Long changeSeq = todoCounterMapper.findChangeSeq(userId);
+        return changeSeq == null ? 0 : changeSeq;
+    }
+
+    // entry.changeSeq 이후 생성/수정된 투두와 삭제 기록을 반영 (변경분 동기화와 같은 인덱스 조회)
+    // 한 투두의 행에는 마지막 변경만 남고 삭제된 ID는 다시 쓰이지 않으므로 적용 순서는 상관없음
+    // 밀린 변경이 maxCatchUp보다 많으면 false (새로 만드는 편이 빠름)
+    private boolean catchUp(long userId, Entry entry, long current) {
+        List<Todos> changed = todoMapper.findChangedSince(userId, entry.changeSeq, Long.MAX_VALUE, maxCatchUp + 1);
+        if (changed.size() > maxCatchUp) {
+            return false;
+        }
+        List<TodoTombstone> deleted = todoTombstoneMapper.findSince(userId, entry.changeSeq, Long.MAX_VALUE, maxCatchUp + 1);
+        if (deleted.size() > maxCatchUp) {
+            return false;
+        }
+        for (Todos todos : changed) {
+            entry.index.put(todos.getId(), todos.getTitle());
+        }
+        for (TodoTombstone tombstone : deleted) {
+            entry.index.remove(tombstone.getTodoId());
+        }
+        log.debug("Caught up title index for user {} ({} -> {}, {} changed, {} deleted)",
+                userId, entry.changeSeq, current, changed.size(), deleted.size());
+        return true;
+    }
+
+    // 같은 항목으로 교체해서 크기를 다시 계산 (그 사이 제거/교체됐으면 그대로 둠)
+    private void reweigh(long userId, Entry entry) {
+        indexes.asMap().replace(userId, entry, entry);
+    }
+
+    private UserTitleIndex load(long userId) {
+        long start = System.currentTimeMillis();
+        UserTitleIndex index = new UserTitleIndex();
+        todoMapper.findTitlesByUserId(userId, context -> {
+            Todos todos = context.getResultObject();
+            index.put(todos.getId(), todos.getTitle());
+        });
+        log.info("Built title index for user {} ({} todos, {} ms)", userId, index.size(), System.currentTimeMillis() - start);
+        return index;
+    }
+
+    private static class Entry {
+        private final ReentrantLock lock = new ReentrantLock();
+        private volatile UserTitleIndex index;
+        private long changeSeq;     // 색인에 반영된 마지막 변경 순번 (lock 안에서만 사용)
+
+        // 포스팅 항목 수 (생성 전에는 1)
+        int weight() {
+            UserTitleIndex current = index;
+            return current == null ? 1 : Math.max(1, current.postingCount());
+        }
+    }
+}
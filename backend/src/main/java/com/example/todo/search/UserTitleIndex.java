@@ -0,0 +1,98 @@
+package com.example.todo.search;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+// 한 사용자의 투두 제목 바이그램(2글자) 역색인
+// 포스팅 리스트 교집합으로 후보를 구한 뒤 원문 포함 여부로 한 번 더 걸러서 LIKE '%keyword%'와 같은 결과를 반환
+class UserTitleIndex {
+    private final Map<String, Set<Long>> postings = new HashMap<>();   // 바이그램 -> 투두 ID 목록
+    private final Map<Long, String> titles = new HashMap<>();          // 투두 ID -> 정규화된 제목
+    private int postingCount;                                           // 포스팅 리스트 항목 수 합계 (메모리 사용량 기준)
+
+    synchronized void put(long id, String title) {
+        remove(id);
+        String normalized = normalize(title);
+        titles.put(id, normalized);
+        for (String gram : bigrams(normalized)) {
+            if (postings.computeIfAbsent(gram, k -> new HashSet<>()).add(id)) {
+                postingCount++;
+            }
+        }
+    }
+
+    synchronized void remove(long id) {
+        String old = titles.remove(id);
+        if (old == null) {
+            return;
+        }
+        for (String gram : bigrams(old)) {
+            Set<Long> ids = postings.get(gram);
+            if (ids != null && ids.remove(id)) {
+                postingCount--;
+                if (ids.isEmpty()) {
+                    postings.remove(gram);
+                }
+            }
+        }
+    }
+
+    // 키워드가 2글자 미만이면 바이그램을 만들 수 없으므로 null 반환
+    synchronized List<Long> search(String keyword) {
+        String normalized = normalize(keyword);
+        Set<String> grams = bigrams(normalized);
+        if (grams.isEmpty()) {
+            return null;
+        }
+
+        List<Set<Long>> lists = new ArrayList<>();
+        for (String gram : grams) {
+            Set<Long> ids = postings.get(gram);
+            if (ids == null) {
+                return List.of();
+            }
+            lists.add(ids);
+        }
+        // 가장 짧은 포스팅 리스트를 기준으로 교집합
+        lists.sort(Comparator.comparingInt(Set::size));
+
+        List<Long> result = new ArrayList<>();
+        for (Long id : lists.get(0)) {
+            boolean matched = true;
+            for (int i = 1; i < lists.size() && matched; i++) {
+                matched = lists.get(i).contains(id);
+            }
+            if (matched && titles.get(id).contains(normalized)) {
+                result.add(id);
+            }
+        }
+        return result;
+    }
+
+    synchronized int size() {
+        return titles.size();
+    }
+
+    synchronized int postingCount() {
+        return postingCount;
+    }
+
+    // MySQL 기본 콜레이션의 LIKE처럼 대소문자를 구분하지 않도록 소문자로 맞춤
+    static String normalize(String text) {
+        return text == null ? "" : text.toLowerCase(Locale.ROOT);
+    }
+
+    static Set<String> bigrams(String text) {
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + 2 <= text.length(); i++) {
+            grams.add(text.substring(i, i + 2));
+        }
+        return grams;
+    }
+}
@@ -0,0 +1,115 @@
+package com.example.todo.security;
+
+import com.example.todo.domain.User;
+import com.example.todo.mapper.UserMapper;
+import com.example.todo.util.BloomFilter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+
+// 가입된 이메일 블룸 필터
+// "없음"이면 users를 조회하지 않고, "있을 수 있음"이면 호출하는 쪽에서 DB로 확인 (최종 판단은 users.email 유니크 제약)
+// 시작 후 users를 스트리밍으로 읽어 채우고, 가입할 때마다 추가 (다 읽기 전에는 항상 "있을 수 있음")
+// 다른 서버에서 가입한 이메일은 refresh-interval-ms마다 새로 생긴 users 행만 읽어 추가
+// 그 주기 동안은 이 서버 필터에 "없음"으로 나올 수 있음 (가입은 유니크 제약이 다시 걸러줌)
+@Slf4j
+@Component
+public class EmailExistenceFilter {
+    private final UserMapper userMapper;
+    private final BloomFilter filter;
+    private volatile boolean ready;
+    private volatile long lastScannedId;    // 마지막으로 읽은 users.id
+    private volatile long previousScannedId;    // 그 전 주기에 읽은 users.id (다음 주기는 여기부터 다시 읽음)
+
+    private final Counter absentCounter;
+    private final Counter presentCounter;
+    private final Counter falsePositiveCounter;
+
+    public EmailExistenceFilter(UserMapper userMapper,
+                                @Value("${auth.email-filter.expected-insertions:1000000}") long expectedInsertions,
+                                @Value("${auth.email-filter.fpp:0.01}") double fpp,
+                                MeterRegistry meterRegistry) {
+        this.userMapper = userMapper;
+        this.filter = new BloomFilter(expectedInsertions, fpp);
+
+        // checks{result=absent}: DB 조회 생략, present: 실제로 있음, false_positive: 필터는 있다고 했지만 DB에 없음
+        this.absentCounter = Counter.builder("auth.email-filter.checks").tag("result", "absent").register(meterRegistry);
+        this.presentCounter = Counter.builder("auth.email-filter.checks").tag("result", "present").register(meterRegistry);
+        this.falsePositiveCounter = Counter.builder("auth.email-filter.checks").tag("result", "false_positive").register(meterRegistry);
+        Gauge.builder("auth.email-filter.expected-fpp", filter, BloomFilter::expectedFpp).register(meterRegistry);
+        Gauge.builder("auth.email-filter.memory", filter, f -> f.bitSize() / 8.0).baseUnit("bytes").register(meterRegistry);
+        Gauge.builder("auth.email-filter.insertions", filter, BloomFilter::insertions).register(meterRegistry);
+    }
+
+    // 서버가 요청을 받기 시작한 뒤 채움 (그동안 가입/확인 요청은 DB로 확인)
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        long start = System.currentTimeMillis();
+        scanAfter(0);
+        previousScannedId = lastScannedId;
+        ready = true;
+        log.info("Email filter loaded {} emails in {} ms ({} bits, {} hashes)", filter.insertions(),
+                System.currentTimeMillis() - start, filter.bitSize(), filter.hashCount());
+    }
+
+    // 다른 서버에서 가입한 이메일 추가 (users.id 기본 키 범위 조회)
+    // 이전 주기에 읽은 구간부터 다시 읽어서, 번호는 먼저 받았지만 늦게 커밋된 가입도 다음 주기에 반영
+    @Scheduled(initialDelayString = "${auth.email-filter.refresh-interval-ms:5000}",
+            fixedDelayString = "${auth.email-filter.refresh-interval-ms:5000}")
+    public void refresh() {
+        if (!ready) {
+            return;
+        }
+        long from = previousScannedId;
+        previousScannedId = lastScannedId;
+        scanAfter(from);
+    }
+
+    private void scanAfter(long afterId) {
+        userMapper.scanEmails(afterId, context -> {
+            User user = context.getResultObject();
+            put(user.getEmail());
+            lastScannedId = Math.max(lastScannedId, user.getId());
+        });
+    }
+
+    // false면 가입된 적 없는 이메일이 확실함
+    public boolean mightContain(String email) {
+        if (ready && !filter.mightContain(normalize(email))) {
+            absentCounter.increment();
+            return false;
+        }
+        return true;
+    }
+
+    // mightContain이 true여서 DB로 확인한 결과 기록 (실제 오탐률 지표)
+    public void recordLookup(boolean found) {
+        (found ? presentCounter : falsePositiveCounter).increment();
+    }
+
+    // 가입 성공 후 호출
+    public void add(String email) {
+        put(email);
+    }
+
+    // 이미 있는 값은 다시 넣지 않음 (다시 읽은 구간 때문에 insertions 지표가 부풀지 않도록)
+    private void put(String email) {
+        String normalized = normalize(email);
+        if (!filter.mightContain(normalized)) {
+            filter.put(normalized);
+        }
+    }
+
+    // users.email 비교는 대소문자를 구분하지 않으므로(기본 콜레이션) 소문자로 맞춤
+    private static String normalize(String email) {
+        return email.trim().toLowerCase(Locale.ROOT);
+    }
+}
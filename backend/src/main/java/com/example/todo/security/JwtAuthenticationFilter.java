@@ -1,11 +1,14 @@
 package com.example.todo.security;
 
 import com.example.todo.service.UserService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -15,6 +18,12 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Component
 @Slf4j
@@ -22,43 +31,89 @@ import java.io.IOException;
 public class JwtAuthenticationFilter extends OncePerRequestFilter { // 모든 요청에 대해 한번만 실행되는 필터를 만들 때 사용
     private final JwtTokenProvider jwtTokenProvider;
     private final UserService userService;
+    private final UserExistenceCache userExistenceCache;
+
+    // 인증 처리 시간 (다음 필터 실행 시간은 제외)
+    // auth.filter{result}: 필터 전체, auth.token.verify: 토큰 검증(캐시 포함), auth.user.lookup{mode}: 사용자 확인
+    private final Map<String, Timer> filterTimers;
+    private final Timer verifyTimer;
+    private final Timer statelessLookupTimer;
+    private final Timer databaseLookupTimer;
+
+    // true면 토큰 클레임(id, email)으로 바로 인증 정보를 만들고 DB 조회는 캐시로 대체
+    @Value("${jwt.stateless-auth:true}")
+    private boolean statelessAuth;
 
     // 순환참조 문제를 막기 위해 생성자로 @Lazy 사용
     // @Lazy는 객체 생성을 지연시키고 필요할 때 생성
-    public JwtAuthenticationFilter(JwtTokenProvider jwtTokenProvider, @Lazy UserService userService) {
+    public JwtAuthenticationFilter(JwtTokenProvider jwtTokenProvider, @Lazy UserService userService, UserExistenceCache userExistenceCache,
+                                   MeterRegistry meterRegistry) {
         this.jwtTokenProvider = jwtTokenProvider;
         this.userService = userService;
+        this.userExistenceCache = userExistenceCache;
+        this.filterTimers = Stream.of("authenticated", "anonymous", "rejected")
+                .collect(Collectors.toMap(Function.identity(),
+                        result -> Timer.builder("auth.filter").tag("result", result).register(meterRegistry)));
+        this.verifyTimer = Timer.builder("auth.token.verify").register(meterRegistry);
+        this.statelessLookupTimer = Timer.builder("auth.user.lookup").tag("mode", "stateless").register(meterRegistry);
+        this.databaseLookupTimer = Timer.builder("auth.user.lookup").tag("mode", "database").register(meterRegistry);
     }
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        long start = System.nanoTime();
+        String result = "anonymous";
         try {
             String token = getJwtFromRequest(request);  // 요청에서 Authorization 헤더에서 토큰 추출
+            if (token != null) {
+                result = "rejected";
+            }
 
-            if (token != null && jwtTokenProvider.getSubject(token) != null) {    // 토큰 유효성 검사
-                String email = jwtTokenProvider.getSubject(token);
+            VerifiedToken verified = token != null ? verifyTimer.record(() -> jwtTokenProvider.verify(token)) : null;   // 토큰 유효성 검사 (한 번만 파싱)
 
-                UserDetails userDetails = userService.loadUserByUsername(email);    // 사용자 정보 로드
-                // 인증 객체 생성
-                // 이 객체는 Spring Security가 내부적으로 사용자를 인증된 상태로 관리하기 위해 필요
-                // 누구, 증명수단, 권한 등록(JWT는 이미 토큰으로 증명이 되어있으므로 증명수단 null)
-                UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
-                authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+            if (verified != null && verified.getSubject() != null) {
+                UserDetails userDetails = (statelessAuth ? statelessLookupTimer : databaseLookupTimer)
+                        .record(() -> loadUserDetails(verified));    // 사용자 정보 로드
 
-                // SecurityContextHolder에 인증 정보 설정
-                // 이렇게 하면 해당 요청을 처리하는 동안 사용자가 인증된 상태가 됨
-                SecurityContextHolder.getContext().setAuthentication(authentication);
+                if (userDetails != null) {
+                    // 인증 객체 생성
+                    // 이 객체는 Spring Security가 내부적으로 사용자를 인증된 상태로 관리하기 위해 필요
+                    // 누구, 증명수단, 권한 등록(JWT는 이미 토큰으로 증명이 되어있으므로 증명수단 null)
+                    UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+                    authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+
+                    // SecurityContextHolder에 인증 정보 설정
+                    // 이렇게 하면 해당 요청을 처리하는 동안 사용자가 인증된 상태가 됨
+                    SecurityContextHolder.getContext().setAuthentication(authentication);
+                    result = "authenticated";
+                }
             }
         } catch (Exception e) {
             // 서명 불일치 등은 그냥 인증 미설정으로 두고 다음 필터로
             log.warn("Could not set user authentication in security context: {}", e.getMessage());
             SecurityContextHolder.clearContext();
         }
+        filterTimers.get(result).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
 
         // 다음 필터로 요청 전달
         filterChain.doFilter(request, response);
     }
 
+    // 검증된 클레임으로 사용자 정보 생성
+    // 무상태 모드에서는 users 테이블을 매번 읽지 않고 존재 여부 캐시만 확인 (탈퇴한 사용자면 null)
+    private UserDetails loadUserDetails(VerifiedToken verified) {
+        String email = verified.getSubject();
+        if (!statelessAuth) {
+            return userService.loadUserByUsername(email);
+        }
+
+        Long id = verified.getId();
+        if (id == null || !userExistenceCache.exists(id)) {
+            return null;
+        }
+        return new CustomUserDetails(id, email, "", Collections.emptyList());   // 비밀번호는 인증에 쓰이지 않으므로 비워둠
+    }
+
     // 요청 헤더에서 "Bearer " 토큰을 파싱하는 메서드
     private String getJwtFromRequest(HttpServletRequest request) {
         String bearerToken = request.getHeader("Authorization");
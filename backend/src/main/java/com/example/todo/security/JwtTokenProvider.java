@@ -1,35 +1,64 @@
 package com.example.todo.security;
 
+import com.example.todo.util.TokenDigest;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
-import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Date;
 
-// JWT 생성/파싱 유틸
+// JWT 생성/검증
+// 검증은 재사용 가능한 파서로 한 번만 파싱하고, 같은 토큰이 다시 오면 만료 시각까지 캐시된 결과를 사용
 @Component
 public class JwtTokenProvider {
 
-    @Value("${jwt.secret}")
-    private String secret;
+    private final long accessTokenExpirationMs;   // 액세스 토큰 유효기간
+    private final long refreshTokenExpirationMs;  // 리프레쉬 토큰 유효기간
 
-    @Value("${jwt.expiration-ms}")
-    private long accessTokenExpirationMs;   // 액세스 토큰 유효기간
+    private final SecretKey key;    // 서명에 쓰일 비밀 키 객체
+    private final JwtParser parser; // 스레드 안전하므로 한 번만 만들어서 재사용
 
-    @Value("${jwt.refresh-expiration-ms}")
-    private long refreshTokenExpirationMs;  // 리프레쉬 토큰 유효기간
+    // 토큰 다이제스트 -> 검증 결과 (토큰의 exp 시각에 제거)
+    private final Cache<String, VerifiedToken> verifiedTokens;
 
-    private SecretKey key;    // 서명에 쓰일 비밀 키 객체
-
-    @PostConstruct
-    void init() {
+    public JwtTokenProvider(@Value("${jwt.secret}") String secret,
+                            @Value("${jwt.expiration-ms}") long accessTokenExpirationMs,
+                            @Value("${jwt.refresh-expiration-ms}") long refreshTokenExpirationMs,
+                            @Value("${jwt.verified-cache.max-size:100000}") long verifiedCacheMaxSize) {
+        this.accessTokenExpirationMs = accessTokenExpirationMs;
+        this.refreshTokenExpirationMs = refreshTokenExpirationMs;
         // HMAC-SHA 키 생성
         this.key = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        this.parser = Jwts.parser().verifyWith(key).build();
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(verifiedCacheMaxSize)
+                .expireAfter(new Expiry<String, VerifiedToken>() {
+                    @Override
+                    public long expireAfterCreate(String digest, VerifiedToken token, long currentTime) {
+                        return Math.max(0, Duration.between(Instant.now(), token.getExpiresAt()).toNanos());
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String digest, VerifiedToken token, long currentTime, long currentDuration) {
+                        return expireAfterCreate(digest, token, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String digest, VerifiedToken token, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
     }
 
     // 액세스 토큰 생성
@@ -63,25 +92,37 @@ public class JwtTokenProvider {
                 .compact();
     }
 
+    // 토큰 검증 (서명이 틀리거나 만료되면 예외 발생)
+    // 원문 토큰 대신 SHA-256 다이제스트를 캐시 키로 사용
+    public VerifiedToken verify(String token) {
+        String digest = TokenDigest.sha256(token);
+        VerifiedToken cached = verifiedTokens.getIfPresent(digest);
+        if (cached != null) {
+            return cached;
+        }
+        VerifiedToken verified = parse(token);
+        verifiedTokens.put(digest, verified);
+        return verified;
+    }
+
+    // 캐시 없이 서명 검증 및 페이로드 파싱
+    VerifiedToken parse(String token) {
+        Claims claims = parser.parseSignedClaims(token).getPayload();
+        Date expiration = claims.getExpiration();
+        // exp가 없는 토큰은 캐시하지 않도록 현재 시각을 만료로 사용
+        Instant expiresAt = expiration != null ? expiration.toInstant() : Instant.now();
+        return new VerifiedToken(claims.get("id", Long.class), claims.getSubject(), expiresAt);
+    }
+
     // 토큰 파싱
     public String getSubject(String token) {
-        return Jwts.parser()    // 파서 빌더 시작
-                .verifyWith(key)   // 검증에 사용할 키 등록(SecretKey) 타입으로 형변환
-                .build()    // 빌딩 완료
-                .parseSignedClaims(token)   // 서명 검증 및 페이로드 파싱(서명이 틀리거나 만료되면 예외 발생)
-                .getPayload()   // 페이로드에서
-                .getSubject();  // 식별자 반환
+        return verify(token).getSubject();  // 식별자 반환
     }
 
     // 리프레쉬 토큰에서 사용자 ID 추출
     public Long getUserIdFromRefreshToken(String token) {
         try {
-            Claims claims = Jwts.parser()
-                    .verifyWith(key)
-                    .build()
-                    .parseSignedClaims(token)
-                    .getPayload();
-            return claims.get("id", Long.class);
+            return verify(token).getId();
         } catch (Exception e) {
             return null;
         }
@@ -0,0 +1,104 @@
+package com.example.todo.security;
+
+import com.example.todo.exception.ServerBusyException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+// BCrypt 해시/검증 전용 스레드 풀
+// CPU를 많이 쓰는 해시 작업을 코어 수만큼만 동시에 실행하고, 대기열이 가득 차면 바로 503으로 거절해서
+// 로그인 폭주 때도 일반 API 요청이 톰캣 스레드를 기다리지 않도록 함
+@Component
+public class PasswordHashExecutor {
+    private final ThreadPoolExecutor executor;
+    private final long timeoutMs;
+    private final long retryAfterSeconds;
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+    private final Timer waitTimer;
+
+    public PasswordHashExecutor(@Value("${security.password-hash.threads:0}") int threads,
+                                @Value("${security.password-hash.queue-capacity:100}") int queueCapacity,
+                                @Value("${security.password-hash.timeout-ms:5000}") long timeoutMs,
+                                @Value("${security.password-hash.retry-after-seconds:1}") long retryAfterSeconds,
+                                MeterRegistry meterRegistry) {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hash-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        this.timeoutMs = timeoutMs;
+        this.retryAfterSeconds = retryAfterSeconds;
+
+        this.encodeTimer = Timer.builder("auth.password.hash").tag("operation", "encode").register(meterRegistry);
+        this.matchesTimer = Timer.builder("auth.password.hash").tag("operation", "matches").register(meterRegistry);
+        // 요청 스레드가 맡긴 뒤 해시 스레드가 시작하기까지 대기한 시간
+        this.waitTimer = Timer.builder("auth.password.wait").register(meterRegistry);
+        Gauge.builder("auth.password.queue.depth", executor, e -> e.getQueue().size()).register(meterRegistry);
+        Gauge.builder("auth.password.active", executor, ThreadPoolExecutor::getActiveCount).register(meterRegistry);
+    }
+
+    public String encode(Supplier<String> task) {
+        return execute(encodeTimer, task);
+    }
+
+    public boolean matches(Supplier<Boolean> task) {
+        return execute(matchesTimer, task);
+    }
+
+    private <T> T execute(Timer timer, Supplier<T> task) {
+        Future<T> future;
+        try {
+            long submitted = System.nanoTime();
+            future = executor.submit(() -> {
+                waitTimer.record(System.nanoTime() - submitted, TimeUnit.NANOSECONDS);
+                return timer.record(task);
+            });
+        } catch (RejectedExecutionException e) {
+            throw busy();
+        }
+
+        try {
+            return future.get(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw busy();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            throw busy();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private ServerBusyException busy() {
+        return new ServerBusyException("요청이 많아 잠시 후 다시 시도해주세요.", retryAfterSeconds);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,112 @@
+package com.example.todo.security;
+
+import com.example.todo.datasource.ShardContext;
+import com.example.todo.datasource.ShardRouter;
+import com.example.todo.mapper.RefreshTokenMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// 만료된 리프레시 토큰 정리
+// 다시 오지 않는 사용자의 토큰은 재발급 시점에 지워지지 않으므로 주기적으로 삭제
+// 만료일 인덱스로 ID를 chunk-size개씩 찾아 PK로 삭제하고(각각 자동 커밋), 청크 사이에 쉬어서 잠금/복제 지연이 길어지지 않도록 함
+// 샤딩을 켜면 샤드마다 차례로 정리
+@Slf4j
+@Component
+public class RefreshTokenPurger {
+    private final RefreshTokenMapper refreshTokenMapper;
+    private final ObjectProvider<ShardRouter> shardRouter;
+    private final boolean enabled;
+    private final int chunkSize;
+    private final long pauseMs;
+    private final int maxChunks;
+    private final Counter purgedCounter;
+    private final Timer chunkTimer;
+
+    public RefreshTokenPurger(RefreshTokenMapper refreshTokenMapper,
+                              ObjectProvider<ShardRouter> shardRouter,
+                              @Value("${jwt.refresh-purge.enabled:true}") boolean enabled,
+                              @Value("${jwt.refresh-purge.chunk-size:500}") int chunkSize,
+                              @Value("${jwt.refresh-purge.pause-ms:200}") long pauseMs,
+                              @Value("${jwt.refresh-purge.max-chunks:1000}") int maxChunks,
+                              MeterRegistry meterRegistry) {
+        this.refreshTokenMapper = refreshTokenMapper;
+        this.shardRouter = shardRouter;
+        this.enabled = enabled;
+        this.chunkSize = chunkSize;
+        this.pauseMs = pauseMs;
+        this.maxChunks = maxChunks;
+        this.purgedCounter = Counter.builder("auth.refresh.purge.rows").register(meterRegistry);
+        this.chunkTimer = Timer.builder("auth.refresh.purge.chunk").register(meterRegistry);
+    }
+
+    @Scheduled(initialDelayString = "${jwt.refresh-purge.initial-delay-ms:60000}",
+            fixedDelayString = "${jwt.refresh-purge.interval-ms:3600000}")
+    public void scheduledPurge() {
+        if (enabled) {
+            purge(LocalDateTime.now());
+        }
+    }
+
+    // before 이전에 만료된 토큰 삭제 후 삭제한 행 수 반환
+    // 기준 시각을 시작할 때 고정하므로 실행 중에 새로 만료되는 토큰 때문에 끝나지 않는 일은 없음
+    public long purge(LocalDateTime before) {
+        ShardRouter router = shardRouter.getIfAvailable();
+        if (router == null) {
+            return purgeChunks(before);
+        }
+        long purged = 0;
+        for (int shard = 0; shard < router.shardCount(); shard++) {
+            purged += ShardContext.callOn(shard, () -> purgeChunks(before));
+        }
+        return purged;
+    }
+
+    private long purgeChunks(LocalDateTime before) {
+        long start = System.nanoTime();
+        long purged = 0;
+        int chunks = 0;
+        while (chunks < maxChunks) {
+            long chunkStart = System.nanoTime();
+            List<Long> ids = refreshTokenMapper.findExpiredIds(before, chunkSize);
+            if (ids.isEmpty()) {
+                break;
+            }
+            int deleted = refreshTokenMapper.deleteExpiredByIds(ids, before);
+            chunkTimer.record(System.nanoTime() - chunkStart, TimeUnit.NANOSECONDS);
+            purgedCounter.increment(deleted);
+            purged += deleted;
+            chunks++;
+            if (ids.size() < chunkSize || !pause()) {
+                break;
+            }
+        }
+        if (purged > 0) {
+            log.info("Purged {} expired refresh tokens in {} chunks ({} ms)", purged, chunks,
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        }
+        return purged;
+    }
+
+    private boolean pause() {
+        if (pauseMs <= 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(pauseMs);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.example.todo.security;
+
+import com.example.todo.domain.RefreshToken;
+import com.example.todo.mapper.RefreshTokenMapper;
+import com.example.todo.util.TokenDigest;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+// 리프레시 토큰 저장소
+// DB에는 원문 대신 SHA-256 다이제스트(token_hash, 유니크 인덱스)만 저장하고,
+// 사용 중인 토큰은 사용자 ID -> 토큰 정보로 캐시 (토큰 만료 시각 또는 ttl-seconds에 제거)
+// 캐시는 서버마다 따로 있으므로 DB에서 확인한 지 verify-after-ms 이내인 항목만 DB 없이 허용
+// (다른 서버에서 다시 로그인/로그아웃해 토큰이 바뀌어도 이전 토큰은 최대 verify-after-ms 동안만 허용)
+@Component
+public class RefreshTokenStore {
+    private final RefreshTokenMapper refreshTokenMapper;
+    private final JwtTokenProvider jwtTokenProvider;
+    private final long verifyAfterNanos;
+    private final Cache<Long, Entry> cache;
+
+    public RefreshTokenStore(RefreshTokenMapper refreshTokenMapper,
+                             JwtTokenProvider jwtTokenProvider,
+                             @Value("${jwt.refresh-cache.max-size:100000}") long maxSize,
+                             @Value("${jwt.refresh-cache.ttl-seconds:60}") long ttlSeconds,
+                             @Value("${jwt.refresh-cache.verify-after-ms:1000}") long verifyAfterMs,
+                             MeterRegistry meterRegistry) {
+        this.refreshTokenMapper = refreshTokenMapper;
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.verifyAfterNanos = TimeUnit.MILLISECONDS.toNanos(verifyAfterMs);
+        long ttlNanos = Duration.ofSeconds(ttlSeconds).toNanos();
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new Expiry<Long, Entry>() {
+                    @Override
+                    public long expireAfterCreate(Long userId, Entry entry, long currentTime) {
+                        long untilExpiry = Duration.between(LocalDateTime.now(), entry.token().getExpiryDate()).toNanos();
+                        return Math.max(0, Math.min(untilExpiry, ttlNanos));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(Long userId, Entry entry, long currentTime, long currentDuration) {
+                        return expireAfterCreate(userId, entry, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(Long userId, Entry entry, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "auth.refresh");
+    }
+
+    // 사용자의 토큰을 새 토큰으로 교체 (없으면 추가, 한 번의 INSERT ... ON DUPLICATE KEY UPDATE)
+    public void save(Long userId, String token, LocalDateTime expiresAt) {
+        RefreshToken refreshToken = new RefreshToken();
+        refreshToken.setUserId(userId);
+        refreshToken.setTokenHash(TokenDigest.sha256(token));
+        refreshToken.setExpiryDate(expiresAt);
+        refreshTokenMapper.upsert(refreshToken);
+        cache.put(userId, new Entry(refreshToken, System.nanoTime()));
+    }
+
+    // 토큰으로 저장된 정보 조회 (만료 여부는 호출하는 쪽에서 확인)
+    // 토큰 안의 사용자 ID로 캐시를 먼저 확인하고, 최근에 확인한 같은 토큰이 아니면 사용자 ID + 다이제스트로 DB 조회
+    // (캐시와 다른 토큰도 다른 서버에서 새로 발급한 토큰일 수 있으므로 DB에서 확인)
+    // 서명이 틀렸거나 만료돼서 사용자 ID를 알 수 없는 토큰은 조회하지 않음 (샤딩을 켜면 어느 샤드인지 알 수 없음)
+    public Optional<RefreshToken> find(String token) {
+        Long userId = jwtTokenProvider.getUserIdFromRefreshToken(token);
+        if (userId == null) {
+            return Optional.empty();
+        }
+        String tokenHash = TokenDigest.sha256(token);
+        Entry cached = cache.getIfPresent(userId);
+        if (cached != null && cached.token().getTokenHash().equals(tokenHash)
+                && System.nanoTime() - cached.verifiedAt() < verifyAfterNanos) {
+            return Optional.of(cached.token());
+        }
+
+        Optional<RefreshToken> stored = refreshTokenMapper.findByTokenHash(userId, tokenHash);
+        if (stored.isPresent() && stored.get().getExpiryDate().isAfter(LocalDateTime.now())) {
+            cache.put(userId, new Entry(stored.get(), System.nanoTime()));
+        } else if (cached != null && cached.token().getTokenHash().equals(tokenHash)) {
+            // 다른 서버에서 교체/삭제된 토큰
+            cache.invalidate(userId);
+        }
+        return stored;
+    }
+
+    public void delete(long userId) {
+        refreshTokenMapper.deleteByUserId(userId);
+        cache.invalidate(userId);
+    }
+
+    // verifiedAt: DB에 저장하거나 DB에서 확인한 시각 (System.nanoTime)
+    private record Entry(RefreshToken token, long verifiedAt) {
+    }
+}
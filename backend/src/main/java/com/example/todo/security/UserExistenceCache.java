@@ -0,0 +1,42 @@
+package com.example.todo.security;
+
+import com.example.todo.mapper.UserMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+// "토큰의 사용자가 아직 존재하는가" 캐시
+// 토큰 클레임만으로 인증할 때 탈퇴한 사용자를 걸러내기 위해 사용 (TTL이 지나면 DB에서 다시 확인)
+@Component
+public class UserExistenceCache {
+    private final UserMapper userMapper;
+    private final Cache<Long, Boolean> cache;
+
+    public UserExistenceCache(UserMapper userMapper,
+                              @Value("${jwt.user-cache.max-size:100000}") long maxSize,
+                              @Value("${jwt.user-cache.ttl-seconds:60}") long ttlSeconds) {
+        this.userMapper = userMapper;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+    }
+
+    public boolean exists(long userId) {
+        // 조회를 cache.get(key, loader) 밖에서 실행 (가상 스레드 모드에서 DB 대기 중 캐리어 스레드 고정 방지)
+        Boolean exists = cache.getIfPresent(userId);
+        if (exists == null) {
+            exists = userMapper.existsById(userId);
+            cache.put(userId, exists);
+        }
+        return exists;
+    }
+
+    // 계정 정보가 바뀌면(가입, 탈퇴 등) 호출
+    public void invalidate(Long userId) {
+        cache.invalidate(userId);
+    }
+}
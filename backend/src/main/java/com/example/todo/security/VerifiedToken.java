@@ -0,0 +1,15 @@
+package com.example.todo.security;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.Instant;
+
+// 서명/만료 검증이 끝난 토큰의 클레임 (변경 불가)
+@Getter
+@AllArgsConstructor
+public class VerifiedToken {
+    private final Long id;          // 사용자 ID (id 클레임)
+    private final String subject;   // 이메일 (리프레쉬 토큰은 null)
+    private final Instant expiresAt;
+}
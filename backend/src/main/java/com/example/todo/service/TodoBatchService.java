@@ -0,0 +1,267 @@
+package com.example.todo.service;
+
+import com.example.todo.domain.TodoCounterDelta;
+import com.example.todo.domain.TodoStatus;
+import com.example.todo.domain.Todos;
+import com.example.todo.dto.request.TodoBatchOperationDTO;
+import com.example.todo.dto.response.TodoBatchResultDTO;
+import com.example.todo.dto.response.TodoResponseDTO;
+import com.example.todo.event.TodoChangeType;
+import com.example.todo.event.TodoChangedEvent;
+import com.example.todo.mapper.TodoCounterMapper;
+import com.example.todo.mapper.TodoMapper;
+import com.example.todo.mapper.TodoTombstoneMapper;
+import org.apache.ibatis.executor.BatchResult;
+import org.apache.ibatis.session.ExecutorType;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.mybatis.spring.SqlSessionTemplate;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// 투두 일괄 생성/수정/삭제
+// 하나의 트랜잭션에서 MyBatis BATCH 실행기로 문장을 모아서 보냄
+// (JDBC URL의 rewriteBatchedStatements=true로 드라이버가 생성 INSERT들을 여러 행 INSERT 하나로 합침)
+// 작업마다 결과를 따로 돌려줌: 검증 실패(400), 없음(404), 버전 충돌(409)인 작업만 실패하고 나머지는 반영
+// (조회 이후 다른 요청이 먼저 바꾼 투두도 전체 롤백 없이 해당 작업만 409)
+@Service
+public class TodoBatchService {
+    private static final int MAX_TITLE_LENGTH = 255;   // todos.title VARCHAR(255)
+    private static final String TITLE_TOO_LONG = "제목은 " + MAX_TITLE_LENGTH + "자를 넘을 수 없습니다.";
+
+    private final SqlSessionTemplate batchSqlSession;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public TodoBatchService(SqlSessionFactory sqlSessionFactory, ApplicationEventPublisher eventPublisher) {
+        // 기본 sqlSessionTemplate 빈을 대체하지 않도록 빈으로 등록하지 않고 여기서만 사용
+        this.batchSqlSession = new SqlSessionTemplate(sqlSessionFactory, ExecutorType.BATCH);
+        this.eventPublisher = eventPublisher;
+    }
+
+    // 같은 트랜잭션 안의 모든 매퍼 호출은 BATCH 세션에서 얻은 매퍼로 해야 함
+    // (실행기 종류가 다른 세션을 한 트랜잭션에서 섞으면 MyBatis가 예외 발생)
+    @Transactional
+    public List<TodoBatchResultDTO> execute(long userId, List<TodoBatchOperationDTO> operations) {
+        TodoMapper todoMapper = batchSqlSession.getMapper(TodoMapper.class);
+        TodoCounterMapper todoCounterMapper = batchSqlSession.getMapper(TodoCounterMapper.class);
+        TodoTombstoneMapper todoTombstoneMapper = batchSqlSession.getMapper(TodoTombstoneMapper.class);
+
+        // 수정/삭제 대상은 한 번에 조회해서 소유권 확인
+        Set<Long> ids = new HashSet<>();
+        for (TodoBatchOperationDTO operation : operations) {
+            if (operation.getId() != null) {
+                ids.add(operation.getId());
+            }
+        }
+        Map<Long, Todos> current = new HashMap<>();
+        if (!ids.isEmpty()) {
+            for (Todos todos : todoMapper.findByIdsAndUserId(ids, userId)) {
+                current.put(todos.getId(), todos);
+            }
+        }
+
+        // 집계 행이 없으면 todos 변경 전에 만들어 둠
+        if (todoCounterMapper.findByUserId(userId) == null) {
+            todoCounterMapper.initialize(userId);
+        }
+        // 변경 순번은 작업 수만큼 미리 발급 (실패한 작업의 순번은 비어도 됨)
+        // 조회 문장은 실행 전에 모인 문장을 먼저 보내므로 lastChangeSeq는 증가된 값을 읽음
+        todoCounterMapper.advanceChangeSeq(userId, operations.size());
+        long changeSeq = todoCounterMapper.lastChangeSeq() - operations.size() + 1;
+
+        Outcome[] outcomes = new Outcome[operations.size()];
+        List<Todos> creates = new ArrayList<>();
+        List<Write> writes = new ArrayList<>();
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+
+        for (int i = 0; i < operations.size(); i++) {
+            TodoBatchOperationDTO operation = operations.get(i);
+            switch (operation.getOp()) {
+                case CREATE -> {
+                    if (operation.getTitle() == null || operation.getTitle().isBlank()) {
+                        outcomes[i] = Outcome.fail(HttpStatus.BAD_REQUEST, "title은 필수입니다.");
+                        break;
+                    }
+                    if (operation.getTitle().length() > MAX_TITLE_LENGTH) {
+                        outcomes[i] = Outcome.fail(HttpStatus.BAD_REQUEST, TITLE_TOO_LONG);
+                        break;
+                    }
+                    // 응답과 CREATED 이벤트에 생성일이 있도록 INSERT 전에 채움 (TIMESTAMP(6)에 맞춰 마이크로초까지)
+                    Todos todos = new Todos();
+                    todos.setUserId(userId);
+                    todos.setTitle(operation.getTitle());
+                    todos.setStatus(TodoStatus.TODO);
+                    todos.setCreatedAt(now);
+                    todos.setChangeSeq(changeSeq + i);
+                    creates.add(todos);
+                    outcomes[i] = Outcome.created(todos);
+                }
+                case UPDATE -> {
+                    if (operation.getTitle() != null && operation.getTitle().length() > MAX_TITLE_LENGTH) {
+                        outcomes[i] = Outcome.fail(HttpStatus.BAD_REQUEST, TITLE_TOO_LONG);
+                        break;
+                    }
+                    Todos todos = operation.getId() == null ? null : current.get(operation.getId());
+                    if (todos == null) {
+                        outcomes[i] = Outcome.fail(HttpStatus.NOT_FOUND, "해당 투두 항목을 찾을 수 없거나 접근 권한이 없습니다.");
+                        break;
+                    }
+                    if (operation.getVersion() != null && operation.getVersion() != todos.getVersion()) {
+                        outcomes[i] = Outcome.fail(HttpStatus.CONFLICT, "다른 요청에서 이미 변경된 투두입니다.");
+                        break;
+                    }
+                    TodoStatus from = todos.getStatus();
+                    Long fromSeconds = TodoCounterService.completionSeconds(todos);
+                    if (operation.getTitle() != null) {
+                        todos.setTitle(operation.getTitle());
+                    }
+                    if (operation.getStatus() != null && operation.getStatus() != todos.getStatus()) {
+                        if (operation.getStatus() == TodoStatus.DONE) {
+                            todos.setCompletedAt(now);
+                        }
+                        todos.setStatus(operation.getStatus());
+                    }
+                    todos.setChangeSeq(changeSeq + i);
+                    todoMapper.update(todos);   // BATCH 실행기는 호출 시점에 파라미터를 바인딩
+                    todos.setVersion(todos.getVersion() + 1);
+                    writes.add(new Write(i, TodoChangeType.UPDATED, copy(todos), from, fromSeconds));
+                }
+                case DELETE -> {
+                    Todos todos = operation.getId() == null ? null : current.get(operation.getId());
+                    if (todos == null) {
+                        outcomes[i] = Outcome.fail(HttpStatus.NOT_FOUND, "해당 투두 항목을 찾을 수 없거나 접근 권한이 없습니다.");
+                        break;
+                    }
+                    if (operation.getVersion() != null && operation.getVersion() != todos.getVersion()) {
+                        outcomes[i] = Outcome.fail(HttpStatus.CONFLICT, "다른 요청에서 이미 변경된 투두입니다.");
+                        break;
+                    }
+                    current.remove(todos.getId());
+                    todoMapper.deleteByIdAndUserId(todos.getId(), userId, todos.getVersion());
+                    writes.add(new Write(i, TodoChangeType.DELETED, todos, todos.getStatus(), TodoCounterService.completionSeconds(todos)));
+                }
+            }
+        }
+
+        // 수정/삭제 문장을 먼저 보내서 작업별 반영 행 수 확인
+        // 조회 이후 다른 요청이 먼저 수정/삭제해서 버전 조건에 걸린 작업만 409로 응답하고 나머지는 반영
+        // (결과는 보낸 순서대로 문장별로 나뉘어 오므로 writes 순서와 같음)
+        int[] counts = new int[writes.size()];
+        int next = 0;
+        for (BatchResult batchResult : batchSqlSession.flushStatements()) {
+            for (int count : batchResult.getUpdateCounts()) {
+                counts[next++] = count;
+            }
+        }
+
+        // 집계 변화량, 삭제 기록, 이벤트는 실제로 반영된 작업만 (단건 쓰기의 TodoCounterService와 같은 방식으로 모아서 한 번 반영)
+        TodoCounterDelta delta = new TodoCounterDelta(userId, 0);
+        List<TodoChangedEvent> events = new ArrayList<>();
+        for (int w = 0; w < writes.size(); w++) {
+            Write write = writes.get(w);
+            if (counts[w] == 0) {
+                outcomes[write.index] = Outcome.fail(HttpStatus.CONFLICT, "다른 요청에서 이미 변경된 투두입니다.");
+                continue;
+            }
+            Todos todos = write.todos;
+            if (write.type == TodoChangeType.DELETED) {
+                todoTombstoneMapper.insert(userId, todos.getId(), changeSeq + write.index);
+                delta.remove(write.from, write.fromSeconds);
+                outcomes[write.index] = Outcome.ok(null);
+            } else {
+                if (todos.getStatus() != write.from) {
+                    delta.changeStatus(write.from, write.fromSeconds, todos.getStatus(), TodoCounterService.completionSeconds(todos));
+                }
+                outcomes[write.index] = Outcome.ok(new TodoResponseDTO(todos));
+            }
+            events.add(new TodoChangedEvent(userId, write.type, todos));
+        }
+        for (Todos todos : creates) {
+            todoMapper.insert(todos);
+            delta.add(TodoStatus.TODO, 1, null);
+        }
+        todoCounterMapper.applyChange(delta);
+        // 나머지 문장 실행 (생성된 id도 이때 채워짐)
+        batchSqlSession.flushStatements();
+
+        for (Todos todos : creates) {
+            events.add(new TodoChangedEvent(userId, TodoChangeType.CREATED, todos));
+        }
+        events.forEach(eventPublisher::publishEvent);
+
+        List<TodoBatchResultDTO> results = new ArrayList<>(operations.size());
+        for (int i = 0; i < outcomes.length; i++) {
+            Outcome outcome = outcomes[i];
+            TodoResponseDTO data = outcome.created != null ? new TodoResponseDTO(outcome.created) : outcome.data;
+            results.add(new TodoBatchResultDTO(i, operations.get(i).getOp().name(), outcome.status, outcome.message, data));
+        }
+        return results;
+    }
+
+    private Todos copy(Todos source) {
+        Todos todos = new Todos();
+        todos.setId(source.getId());
+        todos.setUserId(source.getUserId());
+        todos.setTitle(source.getTitle());
+        todos.setStatus(source.getStatus());
+        todos.setCreatedAt(source.getCreatedAt());
+        todos.setCompletedAt(source.getCompletedAt());
+        todos.setVersion(source.getVersion());
+        todos.setChangeSeq(source.getChangeSeq());
+        return todos;
+    }
+
+    // 보낸 수정/삭제 문장 (flush 결과로 반영 여부를 확인한 뒤 집계/삭제 기록/이벤트 처리)
+    private static class Write {
+        private final int index;
+        private final TodoChangeType type;
+        private final Todos todos;          // 수정 후 값 (삭제는 삭제 전 값)
+        private final TodoStatus from;
+        private final Long fromSeconds;
+
+        private Write(int index, TodoChangeType type, Todos todos, TodoStatus from, Long fromSeconds) {
+            this.index = index;
+            this.type = type;
+            this.todos = todos;
+            this.from = from;
+            this.fromSeconds = fromSeconds;
+        }
+    }
+
+    // 작업별 처리 결과
+    private static class Outcome {
+        private final int status;
+        private final String message;
+        private final TodoResponseDTO data;
+        private final Todos created;    // 생성은 flush 이후 id가 채워지므로 응답을 나중에 만듦
+
+        private Outcome(int status, String message, TodoResponseDTO data, Todos created) {
+            this.status = status;
+            this.message = message;
+            this.data = data;
+            this.created = created;
+        }
+
+        static Outcome ok(TodoResponseDTO data) {
+            return new Outcome(HttpStatus.OK.value(), "성공", data, null);
+        }
+
+        static Outcome created(Todos todos) {
+            return new Outcome(HttpStatus.CREATED.value(), "성공", null, todos);
+        }
+
+        static Outcome fail(HttpStatus status, String message) {
+            return new Outcome(status.value(), message, null, null);
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.example.todo.service;
+
+import com.example.todo.domain.TodoCounter;
+import com.example.todo.domain.TodoCounterDelta;
+import com.example.todo.domain.TodoStatus;
+import com.example.todo.domain.Todos;
+import com.example.todo.mapper.TodoCounterMapper;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+
+// 사용자별 투두 개수/완료 소요 시간 집계 관리
+// 투두 변경과 같은 트랜잭션 안에서, todos 테이블을 변경하기 "전에" 호출해야 개수가 정확하게 유지됨
+// (집계 행이 없을 때 현재 todos를 집계한 뒤 변화량을 더하기 때문)
+@Service
+public class TodoCounterService {
+    private final TodoCounterMapper todoCounterMapper;
+    private final TransactionTemplate initializeTransaction;
+
+    public TodoCounterService(TodoCounterMapper todoCounterMapper, PlatformTransactionManager transactionManager) {
+        this.todoCounterMapper = todoCounterMapper;
+        // 읽기 전용 트랜잭션 안에서도 집계 행은 주 DB의 별도 쓰기 트랜잭션으로 만듦
+        this.initializeTransaction = new TransactionTemplate(transactionManager);
+        this.initializeTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    // 집계 조회 (집계 행이 없는 기존 사용자는 한 번만 todos를 집계해서 생성)
+    // 읽기 전용 트랜잭션(복제본일 수 있음)이면 생성과 생성 직후 조회는 REQUIRES_NEW 쓰기 트랜잭션에서 실행
+    // (읽기 전용 사용자도 첫 조회 이후에는 집계 쿼리 없이 행을 읽음)
+    public TodoCounter getCounter(long userId) {
+        TodoCounter counter = todoCounterMapper.findByUserId(userId);
+        if (counter != null) {
+            return counter;
+        }
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return initializeTransaction.execute(status -> initialize(userId));
+        }
+        return initialize(userId);
+    }
+
+    private TodoCounter initialize(long userId) {
+        todoCounterMapper.initialize(userId);
+        return todoCounterMapper.findByUserId(userId);
+    }
+
+    // 투두 생성 반영, 생성에 쓸 변경 순번 반환
+    // 개수 변화량과 변경 순번 발급을 한 문장으로 실행
+    public long onCreated(long userId, TodoStatus status) {
+        TodoCounterDelta delta = new TodoCounterDelta(userId, 1);
+        delta.add(status, 1, null);
+        return apply(delta);
+    }
+
+    // 여러 건 생성 반영 (statusCounts는 TodoStatus 순서별 생성 개수, count는 생성 건수)
+    // 변경 순번 count개를 같은 문장에서 발급하고 첫 번째 순번 반환 (발급한 순번은 반환값부터 count개)
+    // 가져오기로 만든 DONE 투두는 실제 완료 시각을 모르므로 (완료일 없음) 소요 시간 평균에서 제외
+    public long onBulkCreated(long userId, long[] statusCounts, int count) {
+        TodoCounterDelta delta = new TodoCounterDelta(userId, count);
+        for (TodoStatus status : TodoStatus.values()) {
+            delta.add(status, statusCounts[status.ordinal()], null);
+        }
+        return apply(delta) - count + 1;
+    }
+
+    // 투두 수정 반영, 수정에 쓸 변경 순번 반환
+    // fromCompletionSeconds: 변경 전 completionSeconds(todos) 값, after: 상태/완료일이 바뀐 투두
+    // 상태 변화량과 변경 순번 발급을 한 문장으로 실행
+    public long onUpdated(long userId, TodoStatus from, Long fromCompletionSeconds, Todos after) {
+        TodoCounterDelta delta = new TodoCounterDelta(userId, 1);
+        delta.changeStatus(from, fromCompletionSeconds, after.getStatus(), completionSeconds(after));
+        return apply(delta);
+    }
+
+    // 투두 삭제 반영, 삭제 기록에 쓸 변경 순번 반환
+    public long onDeleted(long userId, Todos todos) {
+        TodoCounterDelta delta = new TodoCounterDelta(userId, 1);
+        delta.remove(todos.getStatus(), completionSeconds(todos));
+        return apply(delta);
+    }
+
+    // 완료 소요 시간(초), DONE이 아니거나 생성일/완료일을 모르면 null (평균 계산에서 제외)
+    public static Long completionSeconds(Todos todos) {
+        if (todos.getStatus() != TodoStatus.DONE || todos.getCreatedAt() == null || todos.getCompletedAt() == null) {
+            return null;
+        }
+        return Math.max(0, Duration.between(todos.getCreatedAt(), todos.getCompletedAt()).getSeconds());
+    }
+
+    // 마지막으로 발급된 변경 순번 반환 (발급하지 않았으면 null)
+    private Long apply(TodoCounterDelta delta) {
+        if (todoCounterMapper.applyChange(delta) == 0) {
+            // 집계 행이 없으면 현재 todos 기준으로 만든 뒤 변화량을 다시 적용
+            todoCounterMapper.initialize(delta.getUserId());
+            todoCounterMapper.applyChange(delta);
+        }
+        return delta.getChangeSeq();
+    }
+}
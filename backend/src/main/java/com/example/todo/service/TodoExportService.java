@@ -0,0 +1,96 @@
+package com.example.todo.service;
+
+import com.example.todo.domain.Todos;
+import com.example.todo.dto.request.TodoDataFormat;
+import com.example.todo.dto.response.TodoResponseDTO;
+import com.example.todo.mapper.TodoMapper;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.util.MinimalPrettyPrinter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.apache.ibatis.cursor.Cursor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+// 사용자의 전체 투두 내보내기
+// MyBatis Cursor로 한 행씩 읽어서 바로 응답에 쓰므로 투두 개수와 관계없이 메모리 사용량이 일정함
+@Service
+@RequiredArgsConstructor
+public class TodoExportService {
+    private static final DateTimeFormatter DATE_TIME = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private final TodoMapper todoMapper;
+    private final ObjectMapper objectMapper;
+
+    // Cursor는 SqlSession이 열려 있는 동안만 읽을 수 있으므로 쓰기가 끝날 때까지 트랜잭션 유지
+    @Transactional(readOnly = true)
+    public void export(long userId, TodoDataFormat format, OutputStream out) throws IOException {
+        try (Cursor<Todos> cursor = todoMapper.streamByUserId(userId)) {
+            if (format == TodoDataFormat.CSV) {
+                writeCsv(cursor, out);
+            } else {
+                writeNdjson(cursor, out);
+            }
+        }
+    }
+
+    // 한 줄에 JSON 하나 (필드와 날짜 형식은 목록 조회 응답과 같음)
+    private void writeNdjson(Cursor<Todos> cursor, OutputStream out) throws IOException {
+        JsonGenerator generator = objectMapper.createGenerator(out);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        generator.setPrettyPrinter(new MinimalPrettyPrinter("\n"));
+        boolean written = false;
+        for (Todos todos : cursor) {
+            generator.writeObject(new TodoResponseDTO(todos));
+            written = true;
+        }
+        if (written) {
+            generator.writeRaw('\n');
+        }
+        generator.flush();
+    }
+
+    private void writeCsv(Cursor<Todos> cursor, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        writer.write("id,title,status,createdAt,completedAt,version\n");
+        for (Todos todos : cursor) {
+            writer.write(String.valueOf(todos.getId()));
+            writer.write(',');
+            writer.write(csv(todos.getTitle()));
+            writer.write(',');
+            writer.write(todos.getStatus().name());
+            writer.write(',');
+            writer.write(format(todos.getCreatedAt()));
+            writer.write(',');
+            writer.write(format(todos.getCompletedAt()));
+            writer.write(',');
+            writer.write(String.valueOf(todos.getVersion()));
+            writer.write('\n');
+        }
+        writer.flush();
+    }
+
+    // 쉼표, 따옴표, 줄바꿈이 있으면 따옴표로 감싸고 따옴표는 두 번 씀 (RFC 4180)
+    private String csv(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return "\"" + value.replace("\"", "\"\"") + "\"";
+    }
+
+    private String format(LocalDateTime dateTime) {
+        return dateTime == null ? "" : dateTime.format(DATE_TIME);
+    }
+}
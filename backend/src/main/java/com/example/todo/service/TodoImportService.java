@@ -0,0 +1,452 @@
+package com.example.todo.service;
+
+import com.example.todo.domain.TodoStatus;
+import com.example.todo.domain.Todos;
+import com.example.todo.dto.request.TodoDataFormat;
+import com.example.todo.dto.response.TodoImportRejectDTO;
+import com.example.todo.dto.response.TodoImportResultDTO;
+import com.example.todo.event.TodoChangeType;
+import com.example.todo.event.TodoChangedEvent;
+import com.example.todo.mapper.TodoMapper;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.StreamReadConstraints;
+import com.fasterxml.jackson.core.StreamReadFeature;
+import com.fasterxml.jackson.core.exc.StreamConstraintsException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+// 투두 가져오기 (NDJSON, CSV)
+// 레코드 하나씩 읽어서 batchSize개씩 여러 행 INSERT 후 바로 커밋하므로 본문 크기와 관계없이 메모리 사용량이 일정함
+// 레코드 하나는 maxRecordLength자까지만 읽고, 넘으면 그 레코드를 거부함
+// 배치마다 커밋하기 때문에 중간에 DB 오류가 나면 앞에서 커밋된 배치는 그대로 남음
+@Service
+public class TodoImportService {
+    private static final int MAX_TITLE_LENGTH = 255;
+    private static final int MAX_REJECTED_DETAILS = 100;
+
+    private final TodoMapper todoMapper;
+    private final TodoCounterService todoCounterService;
+    private final JsonFactory jsonFactory;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final int maxRecordLength;
+
+    public TodoImportService(TodoMapper todoMapper,
+                             TodoCounterService todoCounterService,
+                             ObjectMapper objectMapper,
+                             ApplicationEventPublisher eventPublisher,
+                             PlatformTransactionManager transactionManager,
+                             @Value("${todo.import.batch-size:1000}") int batchSize,
+                             @Value("${todo.import.max-record-length:16384}") int maxRecordLength) {
+        this.todoMapper = todoMapper;
+        this.todoCounterService = todoCounterService;
+        // 문자열 값 하나가 레코드 최대 길이를 넘으면 파서가 더 읽지 않고 실패하도록 제한
+        this.jsonFactory = objectMapper.getFactory().rebuild()
+                .streamReadConstraints(StreamReadConstraints.builder().maxStringLength(maxRecordLength).build())
+                .disable(StreamReadFeature.AUTO_CLOSE_SOURCE)
+                .build();
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.maxRecordLength = maxRecordLength;
+    }
+
+    public TodoImportResultDTO importTodos(long userId, TodoDataFormat format, InputStream in) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        Importer importer = new Importer(userId);
+        if (format == TodoDataFormat.CSV) {
+            readCsv(reader, importer);
+        } else {
+            readNdjson(reader, importer);
+        }
+        importer.flush();
+        return importer.result();
+    }
+
+    // JSON 객체를 이어서 나열한 본문: {"title": "...", "status": "TODO"} (status 생략 시 TODO, 그 외 필드는 무시)
+    // 본문 전체에 파서 하나를 써서 토큰 단위로 읽으므로 줄바꿈이 없어도 객체 하나씩 처리함
+    // 형식 오류나 maxRecordLength를 넘는 레코드는 거부하고 다음 줄부터 새 파서로 이어서 읽음
+    private void readNdjson(Reader in, Importer importer) throws IOException {
+        RewindableReader reader = new RewindableReader(in);
+        long lineOffset = 0;
+        while (lineOffset >= 0) {
+            lineOffset = readJsonValues(reader, importer, lineOffset);
+        }
+    }
+
+    // 끝까지 읽으면 -1, 오류가 나면 그 레코드를 거부하고 다음 줄의 앞까지 건너뛴 뒤 다음 파서의 줄 번호 기준값 반환
+    private long readJsonValues(RewindableReader reader, Importer importer, long lineOffset) throws IOException {
+        JsonParser parser = jsonFactory.createParser(reader);
+        long recordLine = -1;
+        try {
+            while (true) {
+                recordLine = -1;
+                JsonToken token = parser.nextToken();
+                if (token == null) {
+                    return -1;
+                }
+                recordLine = lineOffset + parser.currentTokenLocation().getLineNr();
+                try {
+                    importer.add(readJsonRecord(parser, token));
+                } catch (IllegalArgumentException e) {
+                    importer.reject(recordLine, e.getMessage());
+                }
+            }
+        } catch (JsonProcessingException | RecordTooLongException e) {
+            long errorLine = lineOffset + parser.currentLocation().getLineNr();
+            boolean tooLong = e instanceof RecordTooLongException || e instanceof StreamConstraintsException;
+            importer.reject(recordLine > 0 ? recordLine : errorLine, tooLong ? recordTooLong() : "JSON 형식이 올바르지 않습니다.");
+            // 파서가 미리 읽어 둔 입력을 되돌린 뒤 오류가 난 줄의 나머지를 버림
+            StringWriter buffered = new StringWriter();
+            parser.releaseBuffered(buffered);
+            reader.unread(buffered.toString());
+            return reader.skipLine() ? errorLine : -1;
+        } finally {
+            parser.close();
+        }
+    }
+
+    // 루트 값 하나를 끝까지 읽으면서 title/status만 꺼냄 (객체 전체를 만들지 않음, 객체가 아니면 읽은 뒤 거부)
+    private Todos readJsonRecord(JsonParser parser, JsonToken first) throws IOException {
+        long start = parser.currentTokenLocation().getCharOffset();
+        boolean object = first == JsonToken.START_OBJECT;
+        int depth = first.isStructStart() ? 1 : 0;
+        String title = null;
+        String status = null;
+        while (depth > 0) {
+            JsonToken token = parser.nextToken();
+            if (token == null) {
+                throw new IllegalArgumentException("JSON 값이 닫히지 않았습니다.");
+            }
+            if (parser.currentLocation().getCharOffset() - start > maxRecordLength) {
+                throw new RecordTooLongException();
+            }
+            if (token.isStructStart()) {
+                depth++;
+            } else if (token.isStructEnd()) {
+                depth--;
+            } else if (object && depth == 1 && token.isScalarValue()) {
+                String field = parser.currentName();
+                if ("title".equals(field)) {
+                    title = parser.getValueAsString();
+                } else if ("status".equals(field)) {
+                    status = parser.getValueAsString();
+                }
+            }
+        }
+        if (!object) {
+            throw new IllegalArgumentException("JSON 객체가 아닙니다.");
+        }
+        return toTodos(title, status);
+    }
+
+    // 첫 레코드는 헤더 (title 컬럼 필수, status 컬럼 선택), 내보내기(CSV) 결과를 그대로 가져올 수 있음
+    private void readCsv(Reader reader, Importer importer) throws IOException {
+        CsvRecordReader records = new CsvRecordReader(reader, maxRecordLength);
+        if (!records.next()) {
+            return;
+        }
+        if (records.isTooLong()) {
+            throw new IllegalArgumentException("CSV 헤더가 너무 깁니다.");
+        }
+        String header = records.record();
+        List<String> columns = parseCsvRecord(header.startsWith("\uFEFF") ? header.substring(1) : header);
+        int titleIndex = indexOf(columns, "title");
+        int statusIndex = indexOf(columns, "status");
+        if (titleIndex < 0) {
+            throw new IllegalArgumentException("CSV 헤더에 title 컬럼이 없습니다.");
+        }
+
+        while (records.next()) {
+            if (records.isTooLong()) {
+                importer.reject(records.recordLine(), recordTooLong());
+                continue;
+            }
+            String record = records.record();
+            if (record.isBlank()) {
+                continue;
+            }
+            try {
+                List<String> fields = parseCsvRecord(record);
+                String title = titleIndex < fields.size() ? fields.get(titleIndex) : null;
+                String status = statusIndex >= 0 && statusIndex < fields.size() ? fields.get(statusIndex) : null;
+                importer.add(toTodos(title, status));
+            } catch (IllegalArgumentException e) {
+                importer.reject(records.recordLine(), e.getMessage());
+            }
+        }
+    }
+
+    private String recordTooLong() {
+        return "레코드가 너무 깁니다 (최대 " + maxRecordLength + "자).";
+    }
+
+    private int indexOf(List<String> columns, String name) {
+        for (int i = 0; i < columns.size(); i++) {
+            if (columns.get(i).trim().equalsIgnoreCase(name)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    // RFC 4180: 쉼표 구분, 따옴표로 감싼 값 안의 ""는 따옴표 하나
+    private List<String> parseCsvRecord(String record) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < record.length(); i++) {
+            char c = record.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < record.length() && record.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("닫히지 않은 따옴표가 있습니다.");
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    private Todos toTodos(String title, String status) {
+        if (title == null || title.isBlank()) {
+            throw new IllegalArgumentException("제목이 비어 있습니다.");
+        }
+        if (title.length() > MAX_TITLE_LENGTH) {
+            throw new IllegalArgumentException("제목은 " + MAX_TITLE_LENGTH + "자를 넘을 수 없습니다.");
+        }
+        // DONE이어도 완료일은 비워 둠 (실제 완료 시각을 모르므로 0초로 평균 소요 시간에 섞이지 않도록,
+        // 집계 재계산(TodoCounterMapper.initialize)과 이후 수정/삭제도 완료일이 없는 투두는 제외)
+        Todos todos = new Todos();
+        todos.setTitle(title);
+        todos.setStatus(parseStatus(status));
+        todos.setCreatedAt(LocalDateTime.now());
+        return todos;
+    }
+
+    private TodoStatus parseStatus(String status) {
+        if (status == null || status.isBlank()) {
+            return TodoStatus.TODO;
+        }
+        try {
+            return TodoStatus.valueOf(status.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("알 수 없는 상태입니다: " + status);
+        }
+    }
+
+    // 배치와 결과 집계 (요청 하나에서만 사용)
+    private class Importer {
+        private final long userId;
+        private final List<Todos> batch = new ArrayList<>();
+        private final long[] statusCounts = new long[TodoStatus.values().length];
+        private final List<TodoImportRejectDTO> rejectedLines = new ArrayList<>();
+        private long received;
+        private long imported;
+        private long rejected;
+
+        Importer(long userId) {
+            this.userId = userId;
+        }
+
+        void add(Todos todos) {
+            received++;
+            todos.setUserId(userId);
+            batch.add(todos);
+            statusCounts[todos.getStatus().ordinal()]++;
+            if (batch.size() >= batchSize) {
+                flush();
+            }
+        }
+
+        void reject(long line, String reason) {
+            received++;
+            rejected++;
+            if (rejectedLines.size() < MAX_REJECTED_DETAILS) {
+                rejectedLines.add(new TodoImportRejectDTO(line, reason));
+            }
+        }
+
+        // 배치 하나를 한 트랜잭션으로 커밋 (집계 테이블은 todos보다 먼저 갱신)
+        void flush() {
+            if (batch.isEmpty()) {
+                return;
+            }
+            transactionTemplate.executeWithoutResult(status -> {
+                long changeSeq = todoCounterService.onBulkCreated(userId, statusCounts.clone(), batch.size());
+                for (Todos todos : batch) {
+                    todos.setChangeSeq(changeSeq++);
+                }
+                todoMapper.insertAll(batch);
+                eventPublisher.publishEvent(new TodoChangedEvent(userId, TodoChangeType.IMPORTED, null));
+            });
+            imported += batch.size();
+            batch.clear();
+            Arrays.fill(statusCounts, 0);
+        }
+
+        TodoImportResultDTO result() {
+            return new TodoImportResultDTO(received, imported, rejected, rejectedLines);
+        }
+    }
+
+    // CSV 레코드를 하나씩 읽음 (따옴표 안의 줄바꿈은 같은 레코드, 줄바꿈은 \n으로 통일)
+    // 따옴표 상태를 읽으면서 추적하므로 레코드를 다시 훑지 않고,
+    // maxLength를 넘으면 더 담지 않고 따옴표와 상관없이 다음 줄바꿈까지 버림 (닫히지 않은 따옴표가 본문 끝까지 이어지지 않도록)
+    private static class CsvRecordReader {
+        private final Reader reader;
+        private final int maxLength;
+        private final StringBuilder record = new StringBuilder();
+        private long line;
+        private long recordLine;
+        private boolean tooLong;
+        private int pushedBack = -2;
+
+        CsvRecordReader(Reader reader, int maxLength) {
+            this.reader = reader;
+            this.maxLength = maxLength;
+        }
+
+        // 다음 레코드로 이동, 입력이 끝났으면 false
+        boolean next() throws IOException {
+            record.setLength(0);
+            tooLong = false;
+            int c = read();
+            if (c == -1) {
+                return false;
+            }
+            recordLine = ++line;
+            boolean quoted = false;
+            while (c != -1) {
+                if (c == '\r') {
+                    int following = read();
+                    if (following != '\n') {
+                        pushedBack = following;
+                    }
+                    c = '\n';
+                }
+                if (c == '\n') {
+                    if (!quoted || tooLong) {
+                        break;
+                    }
+                    line++;
+                } else if (c == '"') {
+                    quoted = !quoted;
+                }
+                if (!tooLong) {
+                    if (record.length() >= maxLength) {
+                        tooLong = true;
+                        record.setLength(0);
+                    } else {
+                        record.append((char) c);
+                    }
+                }
+                c = read();
+            }
+            return true;
+        }
+
+        String record() {
+            return record.toString();
+        }
+
+        long recordLine() {
+            return recordLine;
+        }
+
+        boolean isTooLong() {
+            return tooLong;
+        }
+
+        private int read() throws IOException {
+            if (pushedBack != -2) {
+                int c = pushedBack;
+                pushedBack = -2;
+                return c;
+            }
+            return reader.read();
+        }
+    }
+
+    // JSON 파서가 미리 읽어 둔 입력을 앞에 되돌려 넣을 수 있는 Reader (오류 후 다음 줄부터 새 파서로 읽기 위해)
+    private static class RewindableReader extends Reader {
+        private final Reader in;
+        private char[] pending = new char[0];
+        private int pendingPos;
+
+        RewindableReader(Reader in) {
+            this.in = in;
+        }
+
+        void unread(String chars) {
+            String rest = new String(pending, pendingPos, pending.length - pendingPos);
+            pending = (chars + rest).toCharArray();
+            pendingPos = 0;
+        }
+
+        // 다음 줄바꿈까지 버림, 줄바꿈 없이 입력이 끝나면 false
+        boolean skipLine() throws IOException {
+            int c;
+            while ((c = read()) != -1) {
+                if (c == '\n') {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public int read(char[] buffer, int offset, int length) throws IOException {
+            if (pendingPos < pending.length) {
+                int n = Math.min(length, pending.length - pendingPos);
+                System.arraycopy(pending, pendingPos, buffer, offset, n);
+                pendingPos += n;
+                return n;
+            }
+            return in.read(buffer, offset, length);
+        }
+
+        @Override
+        public void close() throws IOException {
+            in.close();
+        }
+    }
+
+    private static class RecordTooLongException extends RuntimeException {
+    }
+}
@@ -1,18 +1,33 @@
 package com.example.todo.service;
 
+import com.example.todo.common.TodoChangeToken;
+import com.example.todo.common.TodoCursor;
 import com.example.todo.domain.TodoStatus;
+import com.example.todo.domain.TodoTombstone;
 import com.example.todo.domain.Todos;
+import com.example.todo.event.TodoChangeType;
+import com.example.todo.event.TodoChangedEvent;
 import com.example.todo.dto.request.TodoUpdateRequestDTO;
+import com.example.todo.dto.response.CursorPageResponseDTO;
+import com.example.todo.dto.response.TodoChangesResponseDTO;
 import com.example.todo.dto.response.PageInfo;
 import com.example.todo.dto.response.PageResponseDTO;
 import com.example.todo.dto.response.TodoResponseDTO;
+import com.example.todo.dto.response.TodoStatsResponseDTO;
+import com.example.todo.exception.TodoConflictException;
 import com.example.todo.exception.TodoNotFoundException;
 import com.example.todo.mapper.TodoMapper;
+import com.example.todo.mapper.TodoTombstoneMapper;
+import com.example.todo.search.TodoTitleIndex;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -20,61 +35,232 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class TodoService {
     private final TodoMapper todoMapper;
+    private final TodoTombstoneMapper todoTombstoneMapper;
+    private final TodoCounterService todoCounterService;
+    private final TodoTitleIndex todoTitleIndex;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 한 번에 조회할 수 있는 최대 개수 (목록은 page/커서 공통, 변경분은 동기화용이라 더 크게)
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int MAX_CHANGES_SIZE = 1000;
 
     // 투두 생성
+    @Transactional
     public TodoResponseDTO create(long userId, String title) {
         Todos todos = new Todos();
         todos.setUserId(userId);
         todos.setTitle(title);
         todos.setStatus(TodoStatus.TODO);
+        // 응답과 CREATED 이벤트에 저장된 생성일이 있도록 INSERT 전에 채움 (TIMESTAMP(6)에 맞춰 마이크로초까지)
+        todos.setCreatedAt(LocalDateTime.now().truncatedTo(ChronoUnit.MICROS));
+        todos.setChangeSeq(todoCounterService.onCreated(userId, todos.getStatus()));
         todoMapper.insert(todos);
+        eventPublisher.publishEvent(new TodoChangedEvent(userId, TodoChangeType.CREATED, todos));
         return new TodoResponseDTO(todos);
     }
 
     // 투두 목록 조회
-    public PageResponseDTO<TodoResponseDTO> getList(long userId, int page, int size, String keyword, LocalDate startDate, LocalDate endDate) {
-        long totalElements = todoMapper.countByUserId(userId, keyword, startDate, endDate);
-        int totalPages = (int) Math.ceil((double) totalElements / size);
+    // 필터가 없으면 전체 개수는 집계 테이블에서 읽고, 필터가 있으면 includeTotal일 때만 COUNT(*) 실행
+    // 키워드는 제목 색인으로 ID 목록을 먼저 구해서 LIKE 없이 조회
+    // 조회 메서드는 읽기 전용 트랜잭션 (읽기/쓰기 분리를 켜면 복제본에서 읽음)
+    @Transactional(readOnly = true)
+    public PageResponseDTO<TodoResponseDTO> getList(long userId, int page, int size, String keyword, LocalDate startDate, LocalDate endDate, boolean includeTotal) {
+        validateSize(size, MAX_PAGE_SIZE);
+        if (page < 1 || (long) (page - 1) * size > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("page는 1 이상이어야 하고 너무 클 수 없습니다.");
+        }
         int offset = (page - 1) * size;
-        List<Todos> todos = todoMapper.findByUserId(userId, offset, size, keyword, startDate, endDate);
+        boolean hasKeyword = keyword != null && !keyword.isEmpty();
+        boolean filtered = hasKeyword || startDate != null || endDate != null;
+
+        List<Long> ids = hasKeyword ? todoTitleIndex.search(userId, keyword) : null;
+        if (ids != null && ids.isEmpty()) {
+            return new PageResponseDTO<>(List.of(), new PageInfo(page, size, 0L, 0L, false));
+        }
+
+        Long totalElements = null;
+        if (!filtered) {
+            totalElements = todoCounterService.getCounter(userId).getTotalCount();
+        } else if (ids != null && startDate == null && endDate == null) {
+            totalElements = (long) ids.size();
+        } else if (includeTotal) {
+            totalElements = todoMapper.countByUserId(userId, keyword, ids, startDate, endDate);
+        }
+
+        // 전체 개수를 모르는 경우 다음 페이지 존재 여부를 알기 위해 하나 더 조회
+        int fetchSize = totalElements == null ? size + 1 : size;
+        List<Todos> todos = todoMapper.findByUserId(userId, offset, fetchSize, keyword, ids, startDate, endDate);
+
+        Long totalPages = null;
+        boolean hasNext;
+        if (totalElements != null) {
+            totalPages = (long) Math.ceil((double) totalElements / size);
+            hasNext = page < totalPages;
+        } else {
+            hasNext = todos.size() > size;
+            if (hasNext) {
+                todos = todos.subList(0, size);
+            }
+        }
 
         List<TodoResponseDTO> doList = todos.stream()
                 .map(TodoResponseDTO::new)
                 .collect(Collectors.toList());
-        PageInfo pageInfo = new PageInfo(page, size, totalElements, totalPages);
+        PageInfo pageInfo = new PageInfo(page, size, totalElements, totalPages, hasNext);
         return new PageResponseDTO<>(doList, pageInfo);
     }
 
+    // 투두 목록 조회 (커서 기반)
+    // OFFSET 없이 (created_at, id) 위치부터 읽기 때문에 몇 번째 페이지든 비용이 같음
+    @Transactional(readOnly = true)
+    public CursorPageResponseDTO<TodoResponseDTO> getCursorList(long userId, String cursor, int size, String keyword, LocalDate startDate, LocalDate endDate) {
+        validateSize(size, MAX_PAGE_SIZE);
+        TodoCursor after = (cursor == null || cursor.isBlank()) ? null : TodoCursor.decode(cursor);
+
+        List<Long> ids = (keyword != null && !keyword.isEmpty()) ? todoTitleIndex.search(userId, keyword) : null;
+        if (ids != null && ids.isEmpty()) {
+            return new CursorPageResponseDTO<>(List.of(), null, false, size);
+        }
+
+        // 다음 페이지 존재 여부를 알기 위해 하나 더 조회
+        List<Todos> todos = todoMapper.findByUserIdAfterCursor(userId,
+                after == null ? null : after.getCreatedAt(),
+                after == null ? null : after.getId(),
+                size + 1, keyword, ids, startDate, endDate);
+
+        boolean hasNext = todos.size() > size;
+        if (hasNext) {
+            todos = todos.subList(0, size);
+        }
+
+        String nextCursor = null;
+        if (hasNext) {
+            Todos last = todos.get(todos.size() - 1);
+            nextCursor = new TodoCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+
+        List<TodoResponseDTO> doList = todos.stream()
+                .map(TodoResponseDTO::new)
+                .collect(Collectors.toList());
+        return new CursorPageResponseDTO<>(doList, nextCursor, hasNext, size);
+    }
+
+    // 상태별 개수, 완료율, 평균 완료 소요 시간 (todos를 집계하지 않고 집계 테이블 한 행만 읽음)
+    @Transactional(readOnly = true)
+    public TodoStatsResponseDTO getStats(long userId) {
+        return new TodoStatsResponseDTO(todoCounterService.getCounter(userId));
+    }
+
+    // 변경분 동기화
+    // since 이후 생성/수정된 투두와 삭제된 ID를 변경 순번 순서로 size개까지 반환
+    // 두 조회가 같은 스냅샷을 보도록 읽기 트랜잭션 안에서 실행
+    @Transactional(readOnly = true)
+    public TodoChangesResponseDTO getChanges(long userId, String since, int size) {
+        validateSize(size, MAX_CHANGES_SIZE);
+        TodoChangeToken from = (since == null || since.isBlank()) ? TodoChangeToken.INITIAL : TodoChangeToken.decode(since);
+        List<Todos> todos = todoMapper.findChangedSince(userId, from.getChangeSeq(), from.getId(), size + 1);
+        List<TodoTombstone> tombstones = todoTombstoneMapper.findSince(userId, from.getChangeSeq(), from.getId(), size + 1);
+
+        // 두 목록을 (change_seq, id) 순서로 합치면서 size개까지 담음
+        List<TodoResponseDTO> changed = new ArrayList<>();
+        List<Long> deleted = new ArrayList<>();
+        TodoChangeToken last = from;
+        int t = 0;
+        int d = 0;
+        while (changed.size() + deleted.size() < size && (t < todos.size() || d < tombstones.size())) {
+            boolean takeTodo = d >= tombstones.size()
+                    || (t < todos.size() && compare(todos.get(t), tombstones.get(d)) < 0);
+            if (takeTodo) {
+                Todos changedTodo = todos.get(t++);
+                changed.add(new TodoResponseDTO(changedTodo));
+                last = new TodoChangeToken(changedTodo.getChangeSeq(), changedTodo.getId());
+            } else {
+                TodoTombstone tombstone = tombstones.get(d++);
+                deleted.add(tombstone.getTodoId());
+                last = new TodoChangeToken(tombstone.getChangeSeq(), tombstone.getTodoId());
+            }
+        }
+        boolean hasMore = t < todos.size() || d < tombstones.size();
+        return new TodoChangesResponseDTO(changed, deleted, last.encode(), hasMore);
+    }
+
+    // size가 0이면 빈 목록의 마지막 항목을, 음수면 LIMIT -n을 만들게 되므로 400으로 거부
+    private static void validateSize(int size, int max) {
+        if (size < 1 || size > max) {
+            throw new IllegalArgumentException("size는 1 이상 " + max + " 이하여야 합니다.");
+        }
+    }
+
+    private int compare(Todos todos, TodoTombstone tombstone) {
+        int result = Long.compare(todos.getChangeSeq(), tombstone.getChangeSeq());
+        return result != 0 ? result : Long.compare(todos.getId(), tombstone.getTodoId());
+    }
+
     // 투두 상세 조회
+    @Transactional(readOnly = true)
     public TodoResponseDTO get(long id, long userId) {
         Todos todos = validateAndGetTodos(id, userId);
         return new TodoResponseDTO(todos);
     }
 
     // 투두 수정
-    public TodoResponseDTO update(long id, long userId, TodoUpdateRequestDTO req) {
+    // expectedVersion(If-Match)이 있으면 현재 버전과 같을 때만 수정
+    // UPDATE는 읽은 버전을 조건으로 실행하는 한 문장(비교 후 교체)이므로 동시에 수정해도 나중 요청이 앞의 변경을 덮어쓰지 않음
+    // 조회 -> 집계 변화량 + 변경 순번 발급(한 문장) -> 버전 조건 UPDATE, 세 번 왕복
+    // 조회는 없앨 수 없음: 응답에 전체 행이 필요하고(MySQL에는 RETURNING이 없음) 집계 변화량이 이전 상태에 따라 달라짐
+    // 없으면 조회에서 404, 조회 뒤 다른 요청이 먼저 바꿨으면 UPDATE 0행이라 409
+    @Transactional
+    public TodoResponseDTO update(long id, long userId, TodoUpdateRequestDTO req, Long expectedVersion) {
         Todos todos = validateAndGetTodos(id, userId);
+        validateVersion(todos, expectedVersion);
+        TodoStatus from = todos.getStatus();
+        Long fromCompletionSeconds = TodoCounterService.completionSeconds(todos);
 
         if (req.getTitle() != null) {
             todos.setTitle(req.getTitle());
         }
 
         if (req.getStatus() != null) {
-            if (req.getStatus() == TodoStatus.DONE && todos.getStatus() != TodoStatus.DONE) {
+            if (req.getStatus() == TodoStatus.DONE && from != TodoStatus.DONE) {
                 todos.setCompletedAt(LocalDateTime.now());
             }
             todos.setStatus(req.getStatus());
         }
 
-        todoMapper.update(todos);
+        todos.setChangeSeq(todoCounterService.onUpdated(userId, from, fromCompletionSeconds, todos));
+        if (todoMapper.update(todos) == 0) {
+            throw conflict();
+        }
+        todos.setVersion(todos.getVersion() + 1);
+        eventPublisher.publishEvent(new TodoChangedEvent(userId, TodoChangeType.UPDATED, todos));
 
         return new TodoResponseDTO(todos);
     }
 
     // 투두 삭제
-    public void delete(long id, long userId) {
-        validateAndGetTodos(id, userId);
-        todoMapper.deleteByIdAndUserId(id, userId);
+    // 조회 -> 집계 변화량 + 변경 순번 발급(한 문장) -> 버전 조건 DELETE -> 삭제 기록, 네 번 왕복
+    // 404/409 구분과 덮어쓰기 방지는 수정과 같음 (조회는 집계 변화량과 삭제 이벤트에 필요)
+    @Transactional
+    public void delete(long id, long userId, Long expectedVersion) {
+        Todos todos = validateAndGetTodos(id, userId);
+        validateVersion(todos, expectedVersion);
+        long changeSeq = todoCounterService.onDeleted(userId, todos);
+        if (todoMapper.deleteByIdAndUserId(id, userId, todos.getVersion()) == 0) {
+            throw conflict();
+        }
+        // 변경분 동기화에서 삭제를 알 수 있도록 기록
+        todoTombstoneMapper.insert(userId, id, changeSeq);
+        eventPublisher.publishEvent(new TodoChangedEvent(userId, TodoChangeType.DELETED, todos));
+    }
+
+    private void validateVersion(Todos todos, Long expectedVersion) {
+        if (expectedVersion != null && expectedVersion != todos.getVersion()) {
+            throw conflict();
+        }
+    }
+
+    private TodoConflictException conflict() {
+        return new TodoConflictException("다른 요청에서 이미 변경된 투두입니다. 다시 조회한 뒤 시도해주세요.");
     }
 
     private Todos validateAndGetTodos(long id, long userId) {
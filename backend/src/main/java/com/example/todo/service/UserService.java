@@ -9,12 +9,16 @@ import com.example.todo.dto.response.TokenResponseDTO;
 import com.example.todo.dto.response.UserResponseDTO;
 import com.example.todo.exception.DuplicateEmailException;
 import com.example.todo.exception.LoginFailedException;
-import com.example.todo.mapper.RefreshTokenMapper;
 import com.example.todo.mapper.UserMapper;
 import com.example.todo.security.CustomUserDetails;
+import com.example.todo.security.EmailExistenceFilter;
 import com.example.todo.security.JwtTokenProvider;
+import com.example.todo.security.PasswordHashExecutor;
+import com.example.todo.security.RefreshTokenStore;
+import com.example.todo.security.UserExistenceCache;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
@@ -24,45 +28,85 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.Collections;
-import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 @Service
 @RequiredArgsConstructor
 public class UserService implements UserDetailsService {    // 인증 검증을 위해 UserDetailsService 인터페이스 상속
 
     private final UserMapper userMapper;
-    private final RefreshTokenMapper refreshTokenMapper;
+    private final RefreshTokenStore refreshTokenStore;
     private final BCryptPasswordEncoder passwordEncoder;
+    private final PasswordHashExecutor passwordHashExecutor;   // BCrypt 작업은 전용 스레드 풀에서 실행
     private final JwtTokenProvider jwtTokenProvider;
+    private final UserExistenceCache userExistenceCache;
+    private final EmailExistenceFilter emailExistenceFilter;
 
     @Value("${jwt.refresh-expiration-ms}")
     private long refreshTokenExpirationMs;
 
+    @Value("${security.bcrypt.strength:10}")
+    private int bcryptStrength;
+
+    private static final Pattern BCRYPT_COST = Pattern.compile("^\\$2[abxy]?\\$(\\d{2})\\$");
+
     @Transactional
     public UserResponseDTO register(RegisterRequestDTO req) {
-        // 이메일 중복체크
-        User existed = userMapper.findByEmail(req.getEmail());
-        if (existed != null) {
-            throw new DuplicateEmailException("이미 사용 중인 이메일입니다.");
+        // 이메일 중복체크 (필터에 없으면 조회 생략, 동시 가입은 유니크 제약으로 걸러짐)
+        if (emailExists(req.getEmail())) {
+            throw duplicateEmail();
         }
 
         // 저장
         User user = new User();
         user.setEmail(req.getEmail());
-        user.setPassword(passwordEncoder.encode(req.getPassword()));
-        userMapper.insert(user);
+        user.setPassword(passwordHashExecutor.encode(() -> passwordEncoder.encode(req.getPassword())));
+        try {
+            userMapper.insert(user);
+        } catch (DuplicateKeyException e) {
+            throw duplicateEmail();
+        }
+        userExistenceCache.invalidate(user.getId());
+        emailExistenceFilter.add(user.getEmail());
 
         return new UserResponseDTO(user.getId(), user.getEmail(), user.getCreatedAt());
     }
 
+    // 가입 가능한 이메일인지 확인 (필터가 "없음"이라고 하면 users를 조회하지 않음)
+    // 다른 서버에서 방금 가입한 이메일은 필터 갱신 주기(auth.email-filter.refresh-interval-ms) 동안 사용 가능으로 보일 수 있음
+    public boolean isEmailAvailable(String email) {
+        return !emailExists(email);
+    }
+
+    // 필터가 "없음"이라고 하면 users를 조회하지 않음
+    private boolean emailExists(String email) {
+        if (!emailExistenceFilter.mightContain(email)) {
+            return false;
+        }
+        boolean exists = userMapper.findByEmail(email) != null;
+        emailExistenceFilter.recordLookup(exists);
+        return exists;
+    }
+
+    private DuplicateEmailException duplicateEmail() {
+        return new DuplicateEmailException("이미 사용 중인 이메일입니다.");
+    }
+
     // 로그인
     public TokenResponseDTO login(LoginRequestDTO req) {
         // 사용자 인증
         User user = userMapper.findByEmail(req.getEmail());
-        if (user == null || !passwordEncoder.matches(req.getPassword(), user.getPassword())) {
+        if (user == null || !passwordHashExecutor.matches(() -> passwordEncoder.matches(req.getPassword(), user.getPassword()))) {
             throw new LoginFailedException("이메일 또는 비밀번호가 올바르지 않습니다.");
         }
 
+        // 설정된 strength와 다른 해시면 로그인 성공 시점에 다시 해시해서 저장
+        if (needsRehash(user.getPassword())) {
+            String rehashed = passwordHashExecutor.encode(() -> passwordEncoder.encode(req.getPassword()));
+            userMapper.updatePassword(user.getId(), rehashed);
+        }
+
         // 액세스 토큰 생성
         String accessToken = jwtTokenProvider.generateAccessToekn(user.getId(), user.getEmail());
         // 리프레쉬 토큰 생성
@@ -70,41 +114,30 @@ public class UserService implements UserDetailsService {    // 인증 검증을
         // 리프레쉬 토큰 만료일 계산
         LocalDateTime expiresAt = LocalDateTime.now().plusSeconds(refreshTokenExpirationMs / 1000);
 
-        // 리프레쉬 객체 생성 및 세팅
-        RefreshToken refreshToken = new RefreshToken();
-        refreshToken.setUserId(user.getId());
-        refreshToken.setToken(refreshTokenString);
-        refreshToken.setExpiryDate(expiresAt);
-
-        // 기존에 리프레쉬 토큰이 있는지 확인
-        Optional<RefreshToken> existingToken = refreshTokenMapper.findByUserId(user.getId());
-        if (existingToken.isPresent()) {
-            refreshTokenMapper.update(refreshToken);    // 있으면 업데이트
-        } else {
-            refreshTokenMapper.save(refreshToken);      // 없으면 저장
-        }
+        // 리프레쉬 토큰 저장 (기존 토큰이 있으면 교체)
+        refreshTokenStore.save(user.getId(), refreshTokenString, expiresAt);
 
         // 투 토큰을 모아서 반환
         return new TokenResponseDTO(accessToken, refreshTokenString, "Bearer", jwtTokenProvider.getAccessTokenExpirationMs());
     }
 
     // 액세스 토큰 재발급 메서드
-    @Transactional
+    // 토큰(샤드)과 사용자(전역 DB)가 다른 DB에 있을 수 있으므로 트랜잭션으로 묶지 않음 (각 조회는 단건)
     public TokenResponseDTO refreshAccessToken(TokenRefreshRequestDTO req) {
         String refreshTokenString = req.getRefreshToken();
 
-        // DB에서 리프레쉬 토큰 조회
-        RefreshToken refreshToken = refreshTokenMapper.findByToken(refreshTokenString)
+        // 리프레쉬 토큰 조회 (캐시에 없으면 DB)
+        RefreshToken refreshToken = refreshTokenStore.find(refreshTokenString)
                 .orElseThrow(() -> new IllegalArgumentException("유효하지 않은 리프레쉬 토큰입니다."));
 
         // 리프레쉬 토큰 만료시간 검증
         if (refreshToken.getExpiryDate().isBefore(LocalDateTime.now())) {
-            refreshTokenMapper.deleteByUserId(refreshToken.getUserId());
+            refreshTokenStore.delete(refreshToken.getUserId());
             throw new IllegalArgumentException("만료된 리프레시 토큰입니다. 다시 로그인해주세요.");
         }
 
         // 리프레쉬 토큰의 사용자 정보 조회
-        User user = userMapper.findById(refreshToken.getId())
+        User user = userMapper.findById(refreshToken.getUserId())
                 .orElseThrow(() -> new UsernameNotFoundException("사용자를 찾을 수 없습니다."));
 
         // 새로운 액세스 토큰 생성
@@ -114,6 +147,15 @@ public class UserService implements UserDetailsService {    // 인증 검증을
         return new TokenResponseDTO(newAccessToken, refreshTokenString, "Bearer", jwtTokenProvider.getAccessTokenExpirationMs());
     }
 
+    // 저장된 해시의 cost가 현재 설정과 다른지 확인
+    private boolean needsRehash(String encodedPassword) {
+        if (encodedPassword == null) {
+            return false;
+        }
+        Matcher matcher = BCRYPT_COST.matcher(encodedPassword);
+        return matcher.find() && Integer.parseInt(matcher.group(1)) != bcryptStrength;
+    }
+
     // 회원 디테일 정보 메서드
     // 직접 호출하지 않고 스프링 시큐리티가 자동으로 인증이 필요할 때 메서드 호출
     @Override
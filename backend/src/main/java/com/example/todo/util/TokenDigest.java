@@ -0,0 +1,23 @@
+package com.example.todo.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+// 토큰 문자열을 원문 대신 보관/비교하기 위한 SHA-256 다이제스트
+public final class TokenDigest {
+
+    private TokenDigest() {
+    }
+
+    // 64자리 16진수 문자열 반환
+    public static String sha256(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+}
@@ -0,0 +1,45 @@
+
+-- == 샤드 DB 스키마 ==
+-- 샤딩(todo.datasource.sharding.enabled)을 켰을 때 각 샤드에 만드는 사용자별 테이블입니다.
+-- users는 전역 DB에만 있으므로 외래 키가 없고, 사용자를 지울 때는 각 샤드의 행도 따로 지워야 합니다.
+-- 컬럼과 인덱스는 schema.sql과 같게 유지합니다.
+
+CREATE TABLE IF NOT EXISTS todos (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY, -- 할 일 항목의 고유 식별자 (샤드마다 시작값이 다르게 증가, id-stride)
+    user_id BIGINT NOT NULL, -- 사용자 ID (샤드 키)
+    title VARCHAR(255) NOT NULL, -- 할 일의 내용
+    status VARCHAR(20) NOT NULL DEFAULT 'TODO', -- 할 일 상태
+    created_at TIMESTAMP(6) DEFAULT CURRENT_TIMESTAMP(6), -- 할 일 생성일
+    completed_at TIMESTAMP(6) NULL, -- 완료일
+    version BIGINT NOT NULL DEFAULT 0, -- 낙관적 잠금용 버전
+    change_seq BIGINT NOT NULL DEFAULT 0, -- 마지막 변경 순번
+    INDEX idx_todos_user_created (user_id, created_at, id),
+    INDEX idx_todos_user_change (user_id, change_seq, id)
+    );
+
+CREATE TABLE IF NOT EXISTS refresh_tokens (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY, -- 고유 식별자
+    user_id BIGINT NOT NULL UNIQUE, -- 사용자 ID (샤드 키)
+    token_hash CHAR(64) NOT NULL UNIQUE, -- 리프레시 토큰의 SHA-256
+    expiry_date TIMESTAMP(6) NOT NULL, -- 토큰 만료일시
+    INDEX idx_refresh_tokens_expiry (expiry_date)
+    );
+
+CREATE TABLE IF NOT EXISTS todo_counters (
+    user_id BIGINT PRIMARY KEY, -- 사용자 ID (샤드 키)
+    total_count BIGINT NOT NULL DEFAULT 0,
+    todo_count BIGINT NOT NULL DEFAULT 0,
+    in_progress_count BIGINT NOT NULL DEFAULT 0,
+    done_count BIGINT NOT NULL DEFAULT 0,
+    done_duration_seconds BIGINT NOT NULL DEFAULT 0,
+    done_timed_count BIGINT NOT NULL DEFAULT 0,
+    change_seq BIGINT NOT NULL DEFAULT 0
+    );
+
+CREATE TABLE IF NOT EXISTS todo_tombstones (
+    user_id BIGINT NOT NULL, -- 사용자 ID (샤드 키)
+    change_seq BIGINT NOT NULL, -- 삭제 시점의 변경 순번
+    todo_id BIGINT NOT NULL, -- 삭제된 투두 ID
+    deleted_at TIMESTAMP(6) DEFAULT CURRENT_TIMESTAMP(6), -- 삭제일
+    PRIMARY KEY (user_id, change_seq, todo_id)
+    );
@@ -17,6 +17,10 @@ CREATE TABLE IF NOT EXISTS todos (
     status VARCHAR(20) NOT NULL DEFAULT 'TODO', -- 할 일의 완료 여부 (기본값은 '미완료'인 false)
     created_at TIMESTAMP(6) DEFAULT CURRENT_TIMESTAMP(6), -- 할 일 생성일
     completed_at TIMESTAMP(6) NULL, -- 완료일
+    version BIGINT NOT NULL DEFAULT 0, -- 낙관적 잠금용 버전 (수정할 때마다 1 증가)
+    change_seq BIGINT NOT NULL DEFAULT 0, -- 마지막 변경 순번 (사용자별로 증가, 변경분 동기화용)
+    INDEX idx_todos_user_created (user_id, created_at, id), -- 목록 정렬/커서 페이징용 복합 인덱스
+    INDEX idx_todos_user_change (user_id, change_seq, id), -- 변경분 동기화 조회용 인덱스
     FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE
     );
 
@@ -25,7 +29,41 @@ CREATE TABLE IF NOT EXISTS todos (
 CREATE TABLE IF NOT EXISTS refresh_tokens (
     id BIGINT AUTO_INCREMENT PRIMARY KEY, -- 고유 식별자
     user_id BIGINT NOT NULL UNIQUE, -- 어떤 사용자의 토큰인지 (한 사용자당 하나의 리프레시 토큰만 가짐)
-    token VARCHAR(255) NOT NULL, -- 발급된 리프레시 토큰 문자열
+    token_hash CHAR(64) NOT NULL UNIQUE, -- 발급된 리프레시 토큰의 SHA-256 (원문은 저장하지 않음, 재발급 시 유니크 인덱스로 조회)
     expiry_date TIMESTAMP(6) NOT NULL, -- 토큰 만료일시
+    INDEX idx_refresh_tokens_expiry (expiry_date), -- 만료 토큰 정리(RefreshTokenPurger)용 인덱스
     FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE
-    );
\ No newline at end of file
+    );
+-- == 투두 개수 집계 테이블 ==
+-- 목록 조회마다 COUNT(*)를 하지 않도록 사용자별 개수를 투두 변경과 같은 트랜잭션에서 갱신합니다.
+CREATE TABLE IF NOT EXISTS todo_counters (
+    user_id BIGINT PRIMARY KEY, -- 사용자 ID
+    total_count BIGINT NOT NULL DEFAULT 0, -- 전체 투두 개수
+    todo_count BIGINT NOT NULL DEFAULT 0, -- TODO 상태 개수
+    in_progress_count BIGINT NOT NULL DEFAULT 0, -- IN_PROGRESS 상태 개수
+    done_count BIGINT NOT NULL DEFAULT 0, -- DONE 상태 개수
+    done_duration_seconds BIGINT NOT NULL DEFAULT 0, -- DONE 투두의 완료 소요 시간 합계 (초)
+    done_timed_count BIGINT NOT NULL DEFAULT 0, -- 완료 소요 시간 합계에 포함된 DONE 투두 개수
+    change_seq BIGINT NOT NULL DEFAULT 0, -- 마지막으로 발급한 변경 순번
+    FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE
+    );
+
+-- == 삭제된 투두 기록 테이블 ==
+-- 변경분 동기화에서 삭제도 전달할 수 있도록 삭제된 투두 ID를 변경 순번과 함께 남깁니다.
+CREATE TABLE IF NOT EXISTS todo_tombstones (
+    user_id BIGINT NOT NULL, -- 사용자 ID
+    change_seq BIGINT NOT NULL, -- 삭제 시점의 변경 순번
+    todo_id BIGINT NOT NULL, -- 삭제된 투두 ID
+    deleted_at TIMESTAMP(6) DEFAULT CURRENT_TIMESTAMP(6), -- 삭제일
+    PRIMARY KEY (user_id, change_seq, todo_id),
+    FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE
+    );
+
+-- == 샤드 디렉터리 테이블 ==
+-- 샤딩(todo.datasource.sharding.enabled)을 켰을 때 해시가 아닌 샤드로 옮긴 사용자의 샤드 번호를 저장합니다.
+CREATE TABLE IF NOT EXISTS user_shards (
+    user_id BIGINT PRIMARY KEY, -- 사용자 ID
+    shard INT NOT NULL, -- 투두/토큰이 저장된 샤드 번호 (shard-urls 순서)
+    moving BOOLEAN NOT NULL DEFAULT FALSE, -- 다른 샤드로 옮기는 중이면 TRUE (그동안 쓰기 거부)
+    FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE
+    );
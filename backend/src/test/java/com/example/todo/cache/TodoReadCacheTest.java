@@ -0,0 +1,149 @@
+package com.example.todo.cache;
+
+import com.example.todo.event.TodoChangeType;
+import com.example.todo.event.TodoChangedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class TodoReadCacheTest {
+
+    @Mock
+    private TodoVersionTracker todoVersionTracker;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private TodoReadCache cache(long maxSize) {
+        return new TodoReadCache(true, maxSize, 30, new SimpleMeterRegistry(), todoVersionTracker, transactionManager);
+    }
+
+    // 호출될 때마다 번호를 붙인 결과를 돌려주는 조회 함수
+    private Supplier<String> loader(AtomicInteger calls) {
+        return () -> "result-" + calls.incrementAndGet();
+    }
+
+    @Test
+    @DisplayName("같은 사용자 버전이면 DB를 다시 읽지 않음")
+    void same_version_hits_cache() {
+        // given
+        TodoReadCache cache = cache(100);
+        AtomicInteger calls = new AtomicInteger();
+        when(todoVersionTracker.current(1L)).thenReturn(7L);
+
+        // when
+        TodoReadCache.Versioned<String> first = cache.get(1L, 7L, "page|q", loader(calls));
+        TodoReadCache.Versioned<String> second = cache.get(1L, 7L, "page|q", loader(calls));
+
+        // then
+        assertEquals(1, calls.get());
+        assertEquals(new TodoReadCache.Versioned<>(7L, "result-1"), first);
+        assertEquals(first, second);
+    }
+
+    @Test
+    @DisplayName("다른 서버의 커밋으로 change_seq가 바뀌면 이전 항목을 쓰지 않고 다시 읽음")
+    void advanced_change_seq_misses() {
+        // given
+        TodoReadCache cache = cache(100);
+        AtomicInteger calls = new AtomicInteger();
+        when(todoVersionTracker.current(1L)).thenReturn(7L, 8L);
+        cache.get(1L, 7L, "page|q", loader(calls));
+
+        // when
+        TodoReadCache.Versioned<String> result = cache.get(1L, 8L, "page|q", loader(calls));
+
+        // then
+        assertEquals(2, calls.get());
+        assertEquals(new TodoReadCache.Versioned<>(8L, "result-2"), result);
+    }
+
+    @Test
+    @DisplayName("304 확인 후 조회 전에 커밋이 끼어들면 데이터를 읽은 시점의 버전으로 저장")
+    void stores_under_version_read_with_data() {
+        // given
+        TodoReadCache cache = cache(100);
+        AtomicInteger calls = new AtomicInteger();
+        when(todoVersionTracker.current(1L)).thenReturn(8L);
+
+        // when
+        TodoReadCache.Versioned<String> loaded = cache.get(1L, 7L, "page|q", loader(calls));
+        TodoReadCache.Versioned<String> next = cache.get(1L, 8L, "page|q", loader(calls));
+
+        // then
+        assertEquals(8L, loaded.version());
+        assertEquals(1, calls.get());
+        assertEquals(loaded, next);
+    }
+
+    @Test
+    @DisplayName("커밋 이벤트 - 그 사용자의 항목과 키 목록만 제거")
+    void commit_invalidates_only_that_user() {
+        // given
+        TodoReadCache cache = cache(100);
+        AtomicInteger calls = new AtomicInteger();
+        when(todoVersionTracker.current(1L)).thenReturn(7L);
+        when(todoVersionTracker.current(2L)).thenReturn(3L);
+        cache.get(1L, 7L, "page|q", loader(calls));
+        cache.get(1L, 7L, "detail|10", loader(calls));
+        cache.get(2L, 3L, "page|q", loader(calls));
+
+        // when
+        cache.onTodoChanged(new TodoChangedEvent(1L, TodoChangeType.UPDATED, null));
+
+        // then
+        assertEquals(0, cache.trackedKeys(1L));
+        assertEquals(1, cache.trackedKeys(2L));
+        cache.get(2L, 3L, "page|q", loader(calls));
+        assertEquals(3, calls.get());
+        cache.get(1L, 7L, "page|q", loader(calls));
+        assertEquals(4, calls.get());
+    }
+
+    @Test
+    @DisplayName("크기 제한으로 제거된 항목은 사용자별 키 목록에서도 빠짐")
+    void eviction_removes_key_from_user_index() {
+        // given
+        TodoReadCache cache = cache(1);
+        AtomicInteger calls = new AtomicInteger();
+        when(todoVersionTracker.current(1L)).thenReturn(7L);
+        when(todoVersionTracker.current(2L)).thenReturn(3L);
+        cache.get(1L, 7L, "page|q", loader(calls));
+        cache.get(2L, 3L, "page|q", loader(calls));
+
+        // when
+        cache.cleanUp();
+
+        // then
+        assertEquals(1, cache.trackedKeys(1L) + cache.trackedKeys(2L));
+    }
+
+    @Test
+    @DisplayName("캐시를 끄면 매번 조회하고 읽은 시점의 버전을 반환")
+    void disabled_always_loads() {
+        // given
+        TodoReadCache cache = new TodoReadCache(false, 100, 30, new SimpleMeterRegistry(), todoVersionTracker, transactionManager);
+        AtomicInteger calls = new AtomicInteger();
+        when(todoVersionTracker.current(1L)).thenReturn(7L);
+
+        // when
+        cache.get(1L, 7L, "page|q", loader(calls));
+        TodoReadCache.Versioned<String> result = cache.get(1L, 7L, "page|q", loader(calls));
+
+        // then
+        assertEquals(2, calls.get());
+        assertEquals(7L, result.version());
+        assertEquals(0, cache.trackedKeys(1L));
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.todo.cache;
+
+import com.example.todo.mapper.TodoCounterMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class TodoVersionTrackerTest {
+
+    @InjectMocks
+    private TodoVersionTracker tracker;
+
+    @Mock
+    private TodoCounterMapper todoCounterMapper;
+
+    @Test
+    @DisplayName("사용자 버전 - todo_counters.change_seq, 집계 행이 없으면 0")
+    void current_reads_change_seq() {
+        // given
+        when(todoCounterMapper.findChangeSeq(1L)).thenReturn(42L);
+        when(todoCounterMapper.findChangeSeq(2L)).thenReturn(null);
+
+        // when & then
+        assertEquals(42L, tracker.current(1L));
+        assertEquals(0L, tracker.current(2L));
+    }
+
+    @Test
+    @DisplayName("상세 ETag - 약한 ETag, 같은 사용자 버전이어도 다른 투두의 ETag는 불일치")
+    void detail_etag_is_weak_and_bound_to_todo() {
+        // given
+        String etag = tracker.detailEtag(7L, 10L, 3L);
+
+        // when & then
+        assertTrue(etag.startsWith("W/\""));
+        assertEquals(etag, tracker.unchangedDetailEtag(7L, 10L, etag));
+        assertNull(tracker.unchangedDetailEtag(7L, 11L, etag));
+    }
+
+    @Test
+    @DisplayName("If-None-Match 여러 값 - 하나라도 맞으면 일치, W/ 없이 보내도 약한 비교로 일치")
+    void if_none_match_list_uses_weak_comparison() {
+        // given
+        String etag = tracker.detailEtag(7L, 10L, 3L);
+        String header = "\"other\", " + etag.substring(2) + " , W/\"x\"";
+
+        // when & then
+        assertEquals(etag, tracker.unchangedDetailEtag(7L, 10L, header));
+        assertNull(tracker.unchangedDetailEtag(7L, 10L, "*"));
+        assertTrue(TodoVersionTracker.isWildcard(" * "));
+    }
+
+    @Test
+    @DisplayName("다른 서버의 쓰기로 change_seq가 바뀌면 이전 상세/목록 ETag는 불일치")
+    void change_seq_advance_invalidates_etags() {
+        // given
+        when(todoCounterMapper.findChangeSeq(1L)).thenReturn(7L, 8L);
+        long before = tracker.current(1L);
+        String detail = tracker.detailEtag(before, 10L, 3L);
+        String list = tracker.listEtag(before, "1|10|null|null|null|null|true");
+
+        // when
+        long after = tracker.current(1L);
+
+        // then
+        assertNull(tracker.unchangedDetailEtag(after, 10L, detail));
+        assertNotEquals(list, tracker.listEtag(after, "1|10|null|null|null|null|true"));
+    }
+}
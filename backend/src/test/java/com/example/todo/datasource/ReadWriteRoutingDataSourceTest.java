@@ -0,0 +1,110 @@
+package com.example.todo.datasource;
+
+import com.example.todo.security.CustomUserDetails;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class ReadWriteRoutingDataSourceTest {
+
+    @Mock
+    private DataSource primary;
+
+    @Mock
+    private ReplicaSet replicaSet;
+
+    @Mock
+    private ReplicaSet.Replica replica;
+
+    @Mock
+    private Connection primaryConnection;
+
+    @Mock
+    private Connection replicaConnection;
+
+    private ReadYourWritesTracker tracker;
+    private ReadWriteRoutingDataSource dataSource;
+
+    @BeforeEach
+    void setUp() {
+        tracker = new ReadYourWritesTracker(Duration.ofSeconds(5), 100);
+        dataSource = new ReadWriteRoutingDataSource(primary, replicaSet, tracker, new SimpleMeterRegistry());
+        CustomUserDetails user = new CustomUserDetails(1L, "email@email.com", "", Collections.emptyList());
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("쓰기 트랜잭션 - 주 DB")
+    void write_goes_to_primary() throws SQLException {
+        // given
+        when(primary.getConnection()).thenReturn(primaryConnection);
+
+        // when & then
+        assertSame(primaryConnection, dataSource.getConnection());
+        verifyNoInteractions(replicaSet);
+    }
+
+    @Test
+    @DisplayName("읽기 전용 트랜잭션 - 복제본")
+    void read_only_goes_to_replica() throws SQLException {
+        // given
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        when(replicaSet.pick()).thenReturn(replica);
+        when(replica.getConnection()).thenReturn(replicaConnection);
+
+        // when & then
+        assertSame(replicaConnection, dataSource.getConnection());
+    }
+
+    @Test
+    @DisplayName("읽기 전용 트랜잭션 - 최근에 쓴 사용자는 주 DB")
+    void recent_writer_reads_from_primary() throws SQLException {
+        // given
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        tracker.markWrite(1L);
+        when(primary.getConnection()).thenReturn(primaryConnection);
+
+        // when & then
+        assertSame(primaryConnection, dataSource.getConnection());
+        verifyNoInteractions(replicaSet);
+    }
+
+    @Test
+    @DisplayName("읽기 전용 트랜잭션 - 복제본 연결 실패 시 제외하고 주 DB")
+    void replica_failure_falls_back_to_primary() throws SQLException {
+        // given
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        when(replicaSet.pick()).thenReturn(replica);
+        when(replica.getConnection()).thenThrow(new SQLException("Connection refused"));
+        when(primary.getConnection()).thenReturn(primaryConnection);
+
+        // when & then
+        assertSame(primaryConnection, dataSource.getConnection());
+        verify(replica).markDown(anyString());
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.todo.datasource;
+
+import com.example.todo.exception.ServerBusyException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class ShardRouterTest {
+
+    @Mock
+    private JdbcTemplate directory;
+
+    private ShardRouter router(int shardCount) {
+        return new ShardRouter(directory, shardCount, 128, Duration.ofSeconds(2), 1000, new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("일관된 해시 - 연속된 사용자 ID도 샤드에 고르게 나뉨")
+    void hash_spreads_users_evenly() {
+        // given
+        ShardRouter router = router(4);
+        int[] counts = new int[4];
+
+        // when
+        for (long userId = 1; userId <= 40_000; userId++) {
+            counts[router.hashShard(userId)]++;
+        }
+
+        // then (샤드당 기대값 10000)
+        for (int count : counts) {
+            assertTrue(count > 8_000 && count < 12_000, "count=" + count);
+        }
+    }
+
+    @Test
+    @DisplayName("샤드 추가 - 해시 결과가 바뀌는 사용자는 새 샤드로 가는 약 1/N뿐")
+    void adding_shard_moves_only_its_share() {
+        // given
+        ShardRouter before = router(4);
+        ShardRouter after = router(5);
+        int moved = 0;
+
+        // when
+        for (long userId = 1; userId <= 10_000; userId++) {
+            int from = before.hashShard(userId);
+            int to = after.hashShard(userId);
+            if (from != to) {
+                assertEquals(4, to);
+                moved++;
+            }
+        }
+
+        // then
+        assertTrue(moved > 1_200 && moved < 2_800, "moved=" + moved);
+    }
+
+    @Test
+    @DisplayName("디렉터리에 기록된 사용자 - 해시보다 디렉터리 우선, 옮기는 중이면 쓰기만 거부")
+    void directory_overrides_hash_and_blocks_writes_while_moving() {
+        // given
+        ShardRouter router = router(4);
+        int target = (router.hashShard(42L) + 1) % 4;
+        when(directory.query(anyString(), any(RowMapper.class), eq(42L)))
+                .thenReturn(List.of(new ShardRouter.Placement(target, true)));
+
+        // when
+        int readShard = router.shardFor(42L, false);
+
+        // then
+        assertEquals(target, readShard);
+        assertThrows(ServerBusyException.class, () -> router.shardFor(42L, true));
+        // 캐시된 결과를 사용하므로 디렉터리는 한 번만 조회
+        verify(directory, times(1)).query(anyString(), any(RowMapper.class), eq(42L));
+    }
+}
@@ -0,0 +1,135 @@
+package com.example.todo.datasource;
+
+import com.example.todo.domain.Todos;
+import com.example.todo.exception.ShardRoutingException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.mapping.SqlCommandType;
+import org.apache.ibatis.mapping.SqlSource;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.session.Configuration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class ShardRoutingInterceptorTest {
+
+    @Mock
+    private ShardRouter router;
+
+    @Mock
+    private Executor executor;
+
+    @Mock
+    private SqlSource sqlSource;
+
+    private ShardRoutingInterceptor interceptor;
+    private final Configuration configuration = new Configuration();
+    // 구문이 실행될 때 ShardContext에 설정된 샤드
+    private final List<Integer> routedShards = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        when(router.shardCount()).thenReturn(2);
+        interceptor = new ShardRoutingInterceptor(router, new SimpleMeterRegistry());
+        when(executor.update(any(), any())).thenAnswer(invocation -> {
+            routedShards.add(ShardContext.current());
+            return 1;
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.getSynchronizations().forEach(s -> s.afterCompletion(0));
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private Object execute(String id, SqlCommandType type, Object parameter) throws Throwable {
+        MappedStatement statement = new MappedStatement.Builder(configuration, id, sqlSource, type).build();
+        Object[] args = {statement, parameter};
+        return interceptor.intercept(new Invocation(executor,
+                Executor.class.getMethod("update", MappedStatement.class, Object.class), args));
+    }
+
+    private Map<String, Object> userParam(long userId) {
+        Map<String, Object> param = new HashMap<>();
+        param.put("userId", userId);
+        return param;
+    }
+
+    @Test
+    @DisplayName("샤드 매퍼는 userId의 샤드, UserMapper는 전역 DB에서 실행하고 실행 후 ShardContext 복원")
+    void routes_by_user_id() throws Throwable {
+        // given
+        Todos todos = new Todos();
+        todos.setUserId(7L);
+        when(router.shardFor(7L, true)).thenReturn(1);
+
+        // when
+        execute("com.example.todo.mapper.TodoMapper.insert", SqlCommandType.INSERT, todos);
+        execute("com.example.todo.mapper.UserMapper.updatePassword", SqlCommandType.UPDATE, userParam(7L));
+
+        // then
+        assertEquals(1, routedShards.get(0));
+        assertNull(routedShards.get(1));
+        assertNull(ShardContext.current());
+    }
+
+    @Test
+    @DisplayName("트랜잭션 - userId가 없는 구문은 같은 샤드, 다른 샤드 구문은 거부")
+    void transaction_is_pinned_to_one_shard() throws Throwable {
+        // given
+        TransactionSynchronizationManager.initSynchronization();
+        when(router.shardFor(1L, true)).thenReturn(1);
+        when(router.shardFor(2L, true)).thenReturn(0);
+
+        // when
+        execute("com.example.todo.mapper.TodoCounterMapper.advanceChangeSeq", SqlCommandType.UPDATE, userParam(1L));
+        execute("com.example.todo.mapper.TodoCounterMapper.lastChangeSeq", SqlCommandType.UPDATE, new HashMap<>());
+
+        // then
+        assertEquals(List.of(1, 1), routedShards);
+        assertThrows(ShardRoutingException.class,
+                () -> execute("com.example.todo.mapper.TodoMapper.deleteByIdAndUserId", SqlCommandType.DELETE, userParam(2L)));
+        assertThrows(ShardRoutingException.class,
+                () -> execute("com.example.todo.mapper.UserMapper.updatePassword", SqlCommandType.UPDATE, userParam(1L)));
+    }
+
+    @Test
+    @DisplayName("userId가 없는 구문 - ShardContext.callOn으로 지정한 샤드에서 실행, 지정하지 않으면 거부")
+    void statement_without_user_id_needs_explicit_shard() {
+        // when
+        Object result = ShardContext.callOn(1, () -> {
+            try {
+                return execute("com.example.todo.mapper.RefreshTokenMapper.deleteExpiredByIds", SqlCommandType.DELETE, new HashMap<>());
+            } catch (Throwable e) {
+                throw new IllegalStateException(e);
+            }
+        });
+
+        // then
+        assertEquals(1, result);
+        assertEquals(List.of(1), routedShards);
+        assertThrows(ShardRoutingException.class,
+                () -> execute("com.example.todo.mapper.RefreshTokenMapper.findExpiredIds", SqlCommandType.SELECT, new HashMap<>()));
+        verify(router, never()).shardFor(anyLong(), anyBoolean());
+    }
+}
@@ -0,0 +1,134 @@
+package com.example.todo.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.DatabasePopulatorUtils;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// 로컬 MySQL 여러 개로 샤드 동작 확인 (application-shards.properties의 docker 명령으로 실행한 인스턴스)
+// TODO_TEST_GLOBAL_URL=jdbc:mysql://localhost:3306/todo TODO_TEST_SHARD_URLS=jdbc:mysql://localhost:3308/todo,jdbc:mysql://localhost:3309/todo ./gradlew test
+// 환경 변수가 없으면 건너뜀
+@EnabledIfEnvironmentVariable(named = "TODO_TEST_SHARD_URLS", matches = ".+")
+public class UserShardMoverLocalDatabaseTest {
+    private static final String USERNAME = Objects.requireNonNullElse(System.getenv("TODO_TEST_DB_USERNAME"), "root");
+    private static final String PASSWORD = Objects.requireNonNullElse(System.getenv("TODO_TEST_DB_PASSWORD"), "1234");
+
+    private HikariDataSource global;
+    private ShardRoutingDataSource shards;
+    private ShardRouter router;
+    private long userId;
+
+    @BeforeEach
+    void setUp() {
+        global = new HikariDataSource();
+        global.setJdbcUrl(System.getenv("TODO_TEST_GLOBAL_URL"));
+        global.setUsername(USERNAME);
+        global.setPassword(PASSWORD);
+        DatabasePopulatorUtils.execute(new ResourceDatabasePopulator(new ClassPathResource("schema.sql")), global);
+
+        // 운영 설정과 같이 배치 INSERT를 여러 행 INSERT 하나로 합쳐서 보냄
+        List<String> urls = Arrays.stream(System.getenv("TODO_TEST_SHARD_URLS").split(","))
+                .map(url -> url.contains("rewriteBatchedStatements") ? url
+                        : url + (url.contains("?") ? "&" : "?") + "rewriteBatchedStatements=true")
+                .toList();
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        shards = new ShardRoutingDataSource(global, urls, USERNAME, PASSWORD, "com.mysql.cj.jdbc.Driver", 2, 64, meterRegistry);
+        for (int i = 0; i < shards.shardCount(); i++) {
+            DatabasePopulatorUtils.execute(new ResourceDatabasePopulator(new ClassPathResource("schema-shard.sql")), shards.shard(i));
+        }
+        router = new ShardRouter(new JdbcTemplate(global), shards.shardCount(), 128, Duration.ofMillis(100), 1000, meterRegistry);
+
+        JdbcTemplate users = new JdbcTemplate(global);
+        String email = "shard-" + System.nanoTime() + "@email.com";
+        users.update("INSERT INTO users (email, password) VALUES (?, 'x')", email);
+        userId = users.queryForObject("SELECT id FROM users WHERE email = ?", Long.class, email);
+    }
+
+    @AfterEach
+    void tearDown() {
+        new JdbcTemplate(global).update("DELETE FROM users WHERE id = ?", userId);
+        for (int i = 0; i < shards.shardCount(); i++) {
+            JdbcTemplate shard = new JdbcTemplate(shards.shard(i));
+            shard.update("DELETE FROM todos WHERE user_id = ?", userId);
+            shard.update("DELETE FROM todo_counters WHERE user_id = ?", userId);
+        }
+        shards.close();
+        global.close();
+    }
+
+    @Test
+    @DisplayName("사용자 이동 - 투두 ID를 유지한 채 대상 샤드로 옮기고 디렉터리 갱신, 기존 샤드에서는 삭제")
+    void move_user_between_local_shards() throws Exception {
+        // given
+        int source = router.shardFor(userId, true);
+        int target = (source + 1) % shards.shardCount();
+        JdbcTemplate from = new JdbcTemplate(shards.shard(source));
+        for (int i = 0; i < 3; i++) {
+            from.update("INSERT INTO todos (user_id, title) VALUES (?, ?)", userId, "todo-" + i);
+        }
+        from.update("INSERT INTO todo_counters (user_id, total_count, todo_count) VALUES (?, 3, 3)", userId);
+        List<Long> ids = from.queryForList("SELECT id FROM todos WHERE user_id = ? ORDER BY id", Long.class, userId);
+
+        // when
+        long moved = new UserShardMover(router, shards, 200, new SimpleMeterRegistry()).move(userId, target);
+
+        // then
+        JdbcTemplate to = new JdbcTemplate(shards.shard(target));
+        assertEquals(4, moved);
+        assertEquals(ids, to.queryForList("SELECT id FROM todos WHERE user_id = ? ORDER BY id", Long.class, userId));
+        assertEquals(0, from.queryForObject("SELECT COUNT(*) FROM todos WHERE user_id = ?", Long.class, userId));
+        assertEquals(target, router.shardFor(userId, true));
+    }
+
+    @Test
+    @DisplayName("샤드 배치 INSERT - 여러 행으로 합쳐진 INSERT의 생성 ID가 실제 저장된 ID와 같음 (id-stride 간격)")
+    void batch_insert_generated_keys_match_rows_on_each_shard() throws Exception {
+        for (int i = 0; i < shards.shardCount(); i++) {
+            // given
+            List<Long> generated = new ArrayList<>();
+            try (Connection connection = shards.shard(i).getConnection();
+                 PreparedStatement insert = connection.prepareStatement(
+                         "INSERT INTO todos (user_id, title) VALUES (?, ?)", Statement.RETURN_GENERATED_KEYS)) {
+                for (int n = 0; n < 3; n++) {
+                    insert.setLong(1, userId);
+                    insert.setString(2, "batch-" + n);
+                    insert.addBatch();
+                }
+
+                // when
+                insert.executeBatch();
+                try (ResultSet keys = insert.getGeneratedKeys()) {
+                    while (keys.next()) {
+                        generated.add(keys.getLong(1));
+                    }
+                }
+            }
+
+            // then
+            List<Long> stored = new JdbcTemplate(shards.shard(i))
+                    .queryForList("SELECT id FROM todos WHERE user_id = ? ORDER BY id", Long.class, userId);
+            assertEquals(stored, generated);
+            assertEquals(64, generated.get(1) - generated.get(0));
+            assertEquals(i + 1, Math.floorMod(generated.get(0) - 1, 64) + 1);
+        }
+    }
+}
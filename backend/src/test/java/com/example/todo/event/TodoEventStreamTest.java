@@ -0,0 +1,197 @@
+package com.example.todo.event;
+
+import com.example.todo.domain.TodoStatus;
+import com.example.todo.domain.Todos;
+import com.example.todo.dto.response.TodoStreamEventDTO;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TodoEventStreamTest {
+
+    private TodoEventStream stream;
+
+    @AfterEach
+    void tearDown() {
+        if (stream != null) {
+            stream.shutdown();
+        }
+    }
+
+    // 전송 스레드 하나, 하트비트는 테스트에서 직접 호출 (주기 1시간)
+    private TodoEventStream stream(int bufferSize, int maxConnectionsPerUser, RecordingEmitter... emitters) {
+        Deque<RecordingEmitter> created = new ArrayDeque<>(List.of(emitters));
+        stream = new TodoEventStream(bufferSize, 30, maxConnectionsPerUser, 1, 3600) {
+            @Override
+            SseEmitter createEmitter(long timeoutMs) {
+                return created.poll();
+            }
+        };
+        return stream;
+    }
+
+    private static TodoChangedEvent updated(long userId, long todoId) {
+        Todos todos = new Todos();
+        todos.setId(todoId);
+        todos.setUserId(userId);
+        todos.setTitle("title-" + todoId);
+        todos.setStatus(TodoStatus.TODO);
+        return new TodoChangedEvent(userId, TodoChangeType.UPDATED, todos);
+    }
+
+    // 전송 스레드가 count개를 보낼 때까지 대기 (최대 5초)
+    private static void awaitSent(RecordingEmitter emitter, int count) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (emitter.sent.size() < count && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertTrue(emitter.sent.size() >= count, "sent " + emitter.sent);
+    }
+
+    @Test
+    @DisplayName("연결 직후 resync, 이후 변경은 연결 버퍼를 거쳐 순서대로 전송 (다른 사용자 변경은 제외)")
+    void queued_changes_are_sent_in_order() throws Exception {
+        // given
+        RecordingEmitter emitter = new RecordingEmitter();
+        TodoEventStream stream = stream(10, 5, emitter);
+        stream.subscribe(1L);
+        awaitSent(emitter, 1);
+
+        // when
+        stream.onTodoChanged(updated(1L, 10L));
+        stream.onTodoChanged(updated(2L, 20L));
+        stream.onTodoChanged(updated(1L, 11L));
+
+        // then
+        awaitSent(emitter, 3);
+        assertEquals(List.of("resync", "todo", "todo"), emitter.names());
+        assertEquals(List.of(10L, 11L), emitter.todoIds());
+    }
+
+    @Test
+    @DisplayName("버퍼가 가득 찬 느린 연결은 쌓인 변경을 버리고 resync 한 번으로 대체")
+    void overflow_drops_queue_and_requests_resync() throws Exception {
+        // given: 첫 전송(resync)에서 전송 스레드를 붙잡아 두고 버퍼(2)보다 많은 변경 발생
+        RecordingEmitter emitter = new RecordingEmitter();
+        CountDownLatch gate = new CountDownLatch(1);
+        emitter.gate = gate;
+        TodoEventStream stream = stream(2, 5, emitter);
+        stream.subscribe(1L);
+        assertTrue(emitter.entered.await(5, TimeUnit.SECONDS));
+
+        // when
+        stream.onTodoChanged(updated(1L, 10L));
+        stream.onTodoChanged(updated(1L, 11L));
+        stream.onTodoChanged(updated(1L, 12L));
+        gate.countDown();
+
+        // then: 버린 변경은 보내지 않고, 이후 변경부터 다시 전송
+        awaitSent(emitter, 2);
+        stream.onTodoChanged(updated(1L, 13L));
+        awaitSent(emitter, 3);
+        assertEquals(List.of("resync", "resync", "todo"), emitter.names());
+        assertEquals(List.of(13L), emitter.todoIds());
+    }
+
+    @Test
+    @DisplayName("하트비트 - 연결마다 주석(ping) 전송")
+    void heartbeat_sends_ping_comment() throws Exception {
+        // given
+        RecordingEmitter emitter = new RecordingEmitter();
+        TodoEventStream stream = stream(10, 5, emitter);
+        stream.subscribe(1L);
+        awaitSent(emitter, 1);
+
+        // when
+        stream.sendHeartbeats();
+
+        // then
+        awaitSent(emitter, 2);
+        assertEquals(List.of("resync", "ping"), emitter.names());
+    }
+
+    @Test
+    @DisplayName("사용자당 연결 수를 넘으면 가장 오래된 연결을 닫고 나머지에만 전송")
+    void connection_limit_closes_oldest() throws Exception {
+        // given
+        RecordingEmitter first = new RecordingEmitter();
+        RecordingEmitter second = new RecordingEmitter();
+        RecordingEmitter third = new RecordingEmitter();
+        TodoEventStream stream = stream(10, 2, first, second, third);
+
+        // when
+        stream.subscribe(1L);
+        stream.subscribe(1L);
+        stream.subscribe(1L);
+        stream.onTodoChanged(updated(1L, 10L));
+
+        // then
+        assertTrue(first.completed);
+        assertFalse(second.completed);
+        assertFalse(third.completed);
+        awaitSent(second, 2);
+        awaitSent(third, 2);
+        assertEquals(List.of("resync", "todo"), second.names());
+        assertEquals(List.of("resync", "todo"), third.names());
+        assertFalse(first.names().contains("todo"));
+    }
+
+    // 보낸 이벤트를 SSE 문자열과 변경 내용으로 기록하는 emitter (gate가 있으면 첫 전송에서 열릴 때까지 대기)
+    private static class RecordingEmitter extends SseEmitter {
+        private final List<String> sent = new CopyOnWriteArrayList<>();
+        private final List<TodoStreamEventDTO> payloads = new CopyOnWriteArrayList<>();
+        private final CountDownLatch entered = new CountDownLatch(1);
+        private volatile CountDownLatch gate;
+        private volatile boolean completed;
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            entered.countDown();
+            CountDownLatch current = gate;
+            if (current != null) {
+                try {
+                    current.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            Set<DataWithMediaType> parts = builder.build();
+            for (DataWithMediaType part : parts) {
+                if (part.getData() instanceof TodoStreamEventDTO payload) {
+                    payloads.add(payload);
+                }
+            }
+            sent.add(parts.stream().map(part -> String.valueOf(part.getData())).collect(Collectors.joining()));
+        }
+
+        @Override
+        public void complete() {
+            completed = true;
+            super.complete();
+        }
+
+        // 이벤트 이름 (주석은 ping)
+        List<String> names() {
+            return sent.stream()
+                    .map(text -> text.startsWith(":") ? "ping" : text.substring("event:".length(), text.indexOf('\n')))
+                    .toList();
+        }
+
+        List<Long> todoIds() {
+            return payloads.stream().map(TodoStreamEventDTO::getId).toList();
+        }
+    }
+}
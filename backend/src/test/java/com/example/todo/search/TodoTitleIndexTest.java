@@ -0,0 +1,133 @@
+package com.example.todo.search;
+
+import com.example.todo.domain.TodoTombstone;
+import com.example.todo.domain.Todos;
+import com.example.todo.mapper.TodoCounterMapper;
+import com.example.todo.mapper.TodoMapper;
+import com.example.todo.mapper.TodoTombstoneMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.ibatis.executor.result.DefaultResultContext;
+import org.apache.ibatis.session.ResultHandler;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class TodoTitleIndexTest {
+
+    @Mock
+    private TodoMapper todoMapper;
+
+    @Mock
+    private TodoCounterMapper todoCounterMapper;
+
+    @Mock
+    private TodoTombstoneMapper todoTombstoneMapper;
+
+    private TodoTitleIndex index() {
+        return new TodoTitleIndex(todoMapper, todoCounterMapper, todoTombstoneMapper, true, 1000, 1000, 30, 2, new SimpleMeterRegistry());
+    }
+
+    private static Todos todos(long id, String title) {
+        Todos todos = new Todos();
+        todos.setId(id);
+        todos.setTitle(title);
+        return todos;
+    }
+
+    private static TodoTombstone tombstone(long todoId) {
+        TodoTombstone tombstone = new TodoTombstone();
+        tombstone.setTodoId(todoId);
+        return tombstone;
+    }
+
+    // findTitlesByUserId(userId, handler) 호출 시 주어진 투두를 한 행씩 전달
+    @SuppressWarnings("unchecked")
+    private void titles(List<Todos> rows) {
+        doAnswer(invocation -> {
+            ResultHandler<Todos> handler = invocation.getArgument(1);
+            DefaultResultContext<Todos> context = new DefaultResultContext<>();
+            for (Todos row : rows) {
+                context.nextResultObject(row);
+                handler.handleResult(context);
+            }
+            return null;
+        }).when(todoMapper).findTitlesByUserId(eq(1L), any(ResultHandler.class));
+    }
+
+    @Test
+    @DisplayName("처음 검색하면 색인을 만들고, 변경 순번이 그대로면 순번만 읽고 재사용")
+    void builds_once_while_change_seq_unchanged() {
+        // given
+        TodoTitleIndex index = index();
+        when(todoCounterMapper.findChangeSeq(1L)).thenReturn(5L);
+        titles(List.of(todos(10L, "보고서 작성"), todos(11L, "장보기")));
+
+        // when
+        List<Long> first = index.search(1L, "보고서");
+        List<Long> second = index.search(1L, "보고서");
+
+        // then
+        assertEquals(List.of(10L), first);
+        assertEquals(List.of(10L), second);
+        verify(todoMapper, times(1)).findTitlesByUserId(eq(1L), any());
+        verify(todoMapper, never()).findChangedSince(anyLong(), anyLong(), anyLong(), anyInt());
+    }
+
+    @Test
+    @DisplayName("다른 서버의 커밋으로 변경 순번이 앞서면 그 이후 변경과 삭제 기록만 반영")
+    void catches_up_with_changes_from_other_servers() {
+        // given
+        TodoTitleIndex index = index();
+        when(todoCounterMapper.findChangeSeq(1L)).thenReturn(5L, 7L);
+        titles(List.of(todos(10L, "보고서 작성"), todos(11L, "장보기")));
+        index.search(1L, "보고서");
+        when(todoMapper.findChangedSince(1L, 5L, Long.MAX_VALUE, 3)).thenReturn(List.of(todos(12L, "주간 보고서")));
+        when(todoTombstoneMapper.findSince(1L, 5L, Long.MAX_VALUE, 3)).thenReturn(List.of(tombstone(10L)));
+
+        // when
+        List<Long> ids = index.search(1L, "보고서");
+
+        // then
+        assertEquals(List.of(12L), ids);
+        verify(todoMapper, times(1)).findTitlesByUserId(eq(1L), any());
+    }
+
+    @Test
+    @DisplayName("밀린 변경이 max-catch-up보다 많으면 따라잡지 않고 새로 만듦")
+    void rebuilds_when_too_far_behind() {
+        // given
+        TodoTitleIndex index = index();
+        when(todoCounterMapper.findChangeSeq(1L)).thenReturn(5L, 9L);
+        titles(List.of(todos(10L, "보고서 작성")));
+        index.search(1L, "보고서");
+        when(todoMapper.findChangedSince(1L, 5L, Long.MAX_VALUE, 3))
+                .thenReturn(List.of(todos(12L, "a"), todos(13L, "b"), todos(14L, "c")));
+
+        // when
+        index.search(1L, "보고서");
+
+        // then
+        verify(todoMapper, times(2)).findTitlesByUserId(eq(1L), any());
+        verify(todoTombstoneMapper, never()).findSince(anyLong(), anyLong(), anyLong(), anyInt());
+    }
+
+    @Test
+    @DisplayName("끄면 null을 반환해 LIKE 조회로 처리")
+    void disabled_returns_null() {
+        // given
+        TodoTitleIndex index = new TodoTitleIndex(todoMapper, todoCounterMapper, todoTombstoneMapper, false, 1000, 1000, 30, 2, new SimpleMeterRegistry());
+
+        // when & then
+        assertNull(index.search(1L, "보고서"));
+        verifyNoInteractions(todoMapper, todoCounterMapper, todoTombstoneMapper);
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.todo.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class UserTitleIndexTest {
+
+    @Test
+    @DisplayName("제목 색인 검색 - LIKE와 같은 결과")
+    void search_matches_like_semantics() {
+        // given
+        UserTitleIndex index = new UserTitleIndex();
+        index.put(1L, "스프링 부트 공부하기");
+        index.put(2L, "부트캠프 신청");
+        index.put(3L, "Spring Boot 정리");
+
+        // when & then
+        assertEquals(List.of(1L), index.search("스프링"));
+        assertEquals(2, index.search("부트").size());
+        assertEquals(List.of(3L), index.search("spring boot"));  // 대소문자 무시
+        assertTrue(index.search("없는키워드").isEmpty());
+        assertNull(index.search("부"));   // 1글자는 색인으로 처리하지 않음
+    }
+
+    @Test
+    @DisplayName("제목 색인 수정/삭제 반영")
+    void put_and_remove_update_postings() {
+        // given
+        UserTitleIndex index = new UserTitleIndex();
+        index.put(1L, "장보기");
+
+        // when
+        index.put(1L, "운동하기");
+
+        // then
+        assertTrue(index.search("장보").isEmpty());
+        assertEquals(List.of(1L), index.search("운동"));
+        assertEquals(3, index.postingCount());  // 운동, 동하, 하기
+
+        // when
+        index.remove(1L);
+
+        // then
+        assertTrue(index.search("운동").isEmpty());
+        assertEquals(0, index.size());
+        assertEquals(0, index.postingCount());
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.todo.security;
+
+import com.example.todo.domain.User;
+import com.example.todo.mapper.UserMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.ibatis.executor.result.DefaultResultContext;
+import org.apache.ibatis.session.ResultHandler;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class EmailExistenceFilterTest {
+
+    @Mock
+    private UserMapper userMapper;
+
+    private EmailExistenceFilter filter() {
+        return new EmailExistenceFilter(userMapper, 1000, 0.01, new SimpleMeterRegistry());
+    }
+
+    private static User user(long id, String email) {
+        User user = new User();
+        user.setId(id);
+        user.setEmail(email);
+        return user;
+    }
+
+    // scanEmails(afterId, handler) 호출 시 주어진 사용자들을 한 행씩 전달
+    @SuppressWarnings("unchecked")
+    private void scan(long afterId, List<User> users) {
+        doAnswer(invocation -> {
+            ResultHandler<User> handler = invocation.getArgument(1);
+            DefaultResultContext<User> context = new DefaultResultContext<>();
+            for (User user : users) {
+                context.nextResultObject(user);
+                handler.handleResult(context);
+            }
+            return null;
+        }).when(userMapper).scanEmails(eq(afterId), any(ResultHandler.class));
+    }
+
+    @Test
+    @DisplayName("시작 전에는 항상 있을 수 있음, 채운 뒤에는 없는 이메일을 확실히 없음으로 답함")
+    void load_fills_filter() {
+        // given
+        EmailExistenceFilter filter = filter();
+        scan(0L, List.of(user(1, "a@email.com"), user(2, "B@Email.com")));
+
+        // when & then
+        assertTrue(filter.mightContain("new@email.com"));
+        filter.load();
+        assertTrue(filter.mightContain("a@email.com"));
+        assertTrue(filter.mightContain("b@email.com"));
+        assertFalse(filter.mightContain("new@email.com"));
+    }
+
+    @Test
+    @DisplayName("갱신 - 다른 서버에서 가입한 이메일을 추가하고, 다음 주기는 이전 주기 구간부터 다시 읽음")
+    void refresh_adds_emails_registered_elsewhere() {
+        // given
+        EmailExistenceFilter filter = filter();
+        scan(0L, List.of(user(1, "a@email.com"), user(2, "b@email.com")));
+        filter.load();
+        scan(2L, List.of(user(3, "other@email.com")));
+
+        // when
+        filter.refresh();
+
+        // then
+        assertTrue(filter.mightContain("other@email.com"));
+        verify(userMapper).scanEmails(eq(2L), any());
+
+        // 다음 주기: 직전 주기에 읽기 시작한 2번 이후부터 다시 (늦게 커밋된 번호 포함)
+        filter.refresh();
+        verify(userMapper, times(2)).scanEmails(eq(2L), any());
+        filter.refresh();
+        verify(userMapper).scanEmails(eq(3L), any());
+    }
+}
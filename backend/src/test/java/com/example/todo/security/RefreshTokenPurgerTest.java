@@ -0,0 +1,47 @@
+package com.example.todo.security;
+
+import com.example.todo.datasource.ShardRouter;
+import com.example.todo.mapper.RefreshTokenMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class RefreshTokenPurgerTest {
+
+    @Mock
+    private RefreshTokenMapper refreshTokenMapper;
+
+    @Mock
+    private ObjectProvider<ShardRouter> shardRouter;
+
+    @Test
+    @DisplayName("만료 토큰 정리 - 청크 단위로 삭제하고 마지막 청크가 덜 차면 종료")
+    void purge_deletes_in_chunks() {
+        // given
+        RefreshTokenPurger purger = new RefreshTokenPurger(refreshTokenMapper, shardRouter, true, 2, 0, 100, new SimpleMeterRegistry());
+        LocalDateTime before = LocalDateTime.now();
+        when(refreshTokenMapper.findExpiredIds(before, 2)).thenReturn(List.of(1L, 2L), List.of(3L, 4L), List.of(5L));
+        when(refreshTokenMapper.deleteExpiredByIds(List.of(1L, 2L), before)).thenReturn(2);
+        // 조회 후 다시 로그인해서 교체된 토큰(4)은 삭제되지 않음
+        when(refreshTokenMapper.deleteExpiredByIds(List.of(3L, 4L), before)).thenReturn(1);
+        when(refreshTokenMapper.deleteExpiredByIds(List.of(5L), before)).thenReturn(1);
+
+        // when
+        long purged = purger.purge(before);
+
+        // then
+        assertEquals(4, purged);
+        verify(refreshTokenMapper, times(3)).findExpiredIds(before, 2);
+    }
+}
@@ -0,0 +1,112 @@
+package com.example.todo.security;
+
+import com.example.todo.domain.RefreshToken;
+import com.example.todo.mapper.RefreshTokenMapper;
+import com.example.todo.util.TokenDigest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class RefreshTokenStoreTest {
+
+    private RefreshTokenStore refreshTokenStore;
+
+    @Mock
+    private RefreshTokenMapper refreshTokenMapper;
+
+    @Mock
+    private JwtTokenProvider jwtTokenProvider;
+
+    @BeforeEach
+    void setUp() {
+        refreshTokenStore = new RefreshTokenStore(refreshTokenMapper, jwtTokenProvider, 100, 60, 1000, new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("저장 - 원문 대신 다이제스트를 저장하고 재발급 때 DB를 읽지 않음")
+    void save_stores_digest_and_caches() {
+        // given
+        when(jwtTokenProvider.getUserIdFromRefreshToken("refresh-1")).thenReturn(1L);
+
+        // when
+        refreshTokenStore.save(1L, "refresh-1", LocalDateTime.now().plusDays(1));
+        Optional<RefreshToken> found = refreshTokenStore.find("refresh-1");
+
+        // then
+        ArgumentCaptor<RefreshToken> saved = ArgumentCaptor.forClass(RefreshToken.class);
+        verify(refreshTokenMapper).upsert(saved.capture());
+        assertEquals(TokenDigest.sha256("refresh-1"), saved.getValue().getTokenHash());
+        assertEquals(64, saved.getValue().getTokenHash().length());
+        assertTrue(found.isPresent());
+        verify(refreshTokenMapper, never()).findByTokenHash(anyLong(), anyString());
+    }
+
+    @Test
+    @DisplayName("조회 실패 - 다시 로그인해서 교체된 이전 토큰")
+    void find_rejects_replaced_token() {
+        // given
+        when(jwtTokenProvider.getUserIdFromRefreshToken("refresh-old")).thenReturn(1L);
+        refreshTokenStore.save(1L, "refresh-old", LocalDateTime.now().plusDays(1));
+        refreshTokenStore.save(1L, "refresh-new", LocalDateTime.now().plusDays(1));
+
+        // when
+        Optional<RefreshToken> found = refreshTokenStore.find("refresh-old");
+
+        // then
+        assertTrue(found.isEmpty());
+    }
+
+    @Test
+    @DisplayName("확인한 지 verify-after-ms가 지난 캐시 항목은 DB에서 다시 확인 - 다른 서버에서 교체된 토큰 거부")
+    void stale_cached_token_is_confirmed_against_db() {
+        // given
+        RefreshTokenStore store = new RefreshTokenStore(refreshTokenMapper, jwtTokenProvider, 100, 60, 0, new SimpleMeterRegistry());
+        when(jwtTokenProvider.getUserIdFromRefreshToken("refresh-old")).thenReturn(1L);
+        store.save(1L, "refresh-old", LocalDateTime.now().plusDays(1));
+        when(refreshTokenMapper.findByTokenHash(1L, TokenDigest.sha256("refresh-old"))).thenReturn(Optional.empty());
+
+        // when
+        Optional<RefreshToken> first = store.find("refresh-old");
+        Optional<RefreshToken> second = store.find("refresh-old");
+
+        // then
+        assertTrue(first.isEmpty());
+        assertTrue(second.isEmpty());
+        verify(refreshTokenMapper, times(2)).findByTokenHash(1L, TokenDigest.sha256("refresh-old"));
+    }
+
+    @Test
+    @DisplayName("캐시와 다른 토큰 - 다른 서버에서 새로 발급한 토큰이면 DB에서 찾아 허용하고 캐시 갱신")
+    void token_issued_on_other_server_is_accepted() {
+        // given
+        when(jwtTokenProvider.getUserIdFromRefreshToken("refresh-new")).thenReturn(1L);
+        refreshTokenStore.save(1L, "refresh-old", LocalDateTime.now().plusDays(1));
+        RefreshToken issuedElsewhere = new RefreshToken();
+        issuedElsewhere.setUserId(1L);
+        issuedElsewhere.setTokenHash(TokenDigest.sha256("refresh-new"));
+        issuedElsewhere.setExpiryDate(LocalDateTime.now().plusDays(1));
+        when(refreshTokenMapper.findByTokenHash(1L, TokenDigest.sha256("refresh-new"))).thenReturn(Optional.of(issuedElsewhere));
+
+        // when
+        Optional<RefreshToken> first = refreshTokenStore.find("refresh-new");
+        Optional<RefreshToken> second = refreshTokenStore.find("refresh-new");
+
+        // then
+        assertTrue(first.isPresent());
+        assertTrue(second.isPresent());
+        verify(refreshTokenMapper, times(1)).findByTokenHash(1L, TokenDigest.sha256("refresh-new"));
+    }
+}
@@ -0,0 +1,148 @@
+package com.example.todo.service;
+
+import com.example.todo.domain.TodoCounter;
+import com.example.todo.domain.TodoCounterDelta;
+import com.example.todo.domain.TodoStatus;
+import com.example.todo.domain.Todos;
+import com.example.todo.mapper.TodoCounterMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class TodoCounterServiceTest {
+
+    @InjectMocks
+    private TodoCounterService todoCounterService;
+
+    @Mock
+    private TodoCounterMapper todoCounterMapper;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private Todos todos(TodoStatus status, LocalDateTime createdAt, LocalDateTime completedAt) {
+        Todos todos = new Todos();
+        todos.setStatus(status);
+        todos.setCreatedAt(createdAt);
+        todos.setCompletedAt(completedAt);
+        return todos;
+    }
+
+    @Test
+    @DisplayName("DONE으로 변경 - 완료 소요 시간 합계에 추가하고 같은 문장에서 발급한 변경 순번 반환")
+    void status_changed_to_done_adds_completion() {
+        // given
+        LocalDateTime createdAt = LocalDateTime.of(2025, 1, 1, 9, 0);
+        Todos after = todos(TodoStatus.DONE, createdAt, createdAt.plusHours(2));
+        ArgumentCaptor<TodoCounterDelta> captor = ArgumentCaptor.forClass(TodoCounterDelta.class);
+        when(todoCounterMapper.applyChange(captor.capture())).thenAnswer(invocation -> {
+            invocation.<TodoCounterDelta>getArgument(0).setChangeSeq(42L);
+            return 1;
+        });
+
+        // when
+        long changeSeq = todoCounterService.onUpdated(1L, TodoStatus.IN_PROGRESS, null, after);
+
+        // then
+        TodoCounterDelta delta = captor.getValue();
+        assertEquals(42L, changeSeq);
+        assertEquals(0, delta.getTotal());
+        assertArrayEquals(new long[]{0, -1, 1}, delta.getStatus());
+        assertEquals(7200, delta.getDoneSeconds());
+        assertEquals(1, delta.getDoneTimed());
+        assertEquals(1, delta.getChangeSeqCount());
+        verify(todoCounterMapper, never()).initialize(anyLong());
+    }
+
+    @Test
+    @DisplayName("DONE 투두 삭제 - 집계 행이 없으면 생성 후 완료 소요 시간 합계에서 제외")
+    void deleted_done_removes_completion_after_initialize() {
+        // given
+        LocalDateTime createdAt = LocalDateTime.of(2025, 1, 1, 9, 0);
+        Todos deleted = todos(TodoStatus.DONE, createdAt, createdAt.plusMinutes(30));
+        ArgumentCaptor<TodoCounterDelta> captor = ArgumentCaptor.forClass(TodoCounterDelta.class);
+        when(todoCounterMapper.applyChange(captor.capture())).thenReturn(0).thenAnswer(invocation -> {
+            invocation.<TodoCounterDelta>getArgument(0).setChangeSeq(5L);
+            return 1;
+        });
+
+        // when
+        long changeSeq = todoCounterService.onDeleted(1L, deleted);
+
+        // then
+        TodoCounterDelta delta = captor.getValue();
+        assertEquals(5L, changeSeq);
+        verify(todoCounterMapper).initialize(1L);
+        verify(todoCounterMapper, times(2)).applyChange(delta);
+        assertEquals(-1, delta.getTotal());
+        assertArrayEquals(new long[]{0, 0, -1}, delta.getStatus());
+        assertEquals(-1800, delta.getDoneSeconds());
+        assertEquals(-1, delta.getDoneTimed());
+    }
+
+    @Test
+    @DisplayName("여러 건 생성 - 개수 변화량과 변경 순번 발급을 한 문장으로, 마지막 순번에서 첫 번째 순번 계산")
+    void bulk_created_issues_change_seq_range_in_one_statement() {
+        // given
+        ArgumentCaptor<TodoCounterDelta> captor = ArgumentCaptor.forClass(TodoCounterDelta.class);
+        when(todoCounterMapper.applyChange(captor.capture())).thenAnswer(invocation -> {
+            invocation.<TodoCounterDelta>getArgument(0).setChangeSeq(10L);
+            return 1;
+        });
+
+        // when
+        long first = todoCounterService.onBulkCreated(1L, new long[]{1, 1, 1}, 3);
+
+        // then
+        TodoCounterDelta delta = captor.getValue();
+        assertEquals(8L, first);
+        assertEquals(3, delta.getTotal());
+        assertArrayEquals(new long[]{1, 1, 1}, delta.getStatus());
+        assertEquals(3, delta.getChangeSeqCount());
+        // 가져온 DONE 투두는 완료 시각을 모르므로 평균 소요 시간에서 제외
+        assertEquals(0, delta.getDoneTimed());
+        assertEquals(0, delta.getDoneSeconds());
+        verify(todoCounterMapper, times(1)).applyChange(any());
+    }
+
+    @Test
+    @DisplayName("읽기 전용 트랜잭션 - 집계 행이 없으면 REQUIRES_NEW 쓰기 트랜잭션에서 생성")
+    void read_only_counter_is_initialized_in_new_write_transaction() {
+        // given
+        TodoCounter created = new TodoCounter();
+        created.setTotalCount(3);
+        when(todoCounterMapper.findByUserId(1L)).thenReturn(null, created);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        // when
+        TodoCounter counter;
+        try {
+            counter = todoCounterService.getCounter(1L);
+        } finally {
+            TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        }
+
+        // then
+        ArgumentCaptor<TransactionDefinition> definition = ArgumentCaptor.forClass(TransactionDefinition.class);
+        verify(transactionManager).getTransaction(definition.capture());
+        assertEquals(TransactionDefinition.PROPAGATION_REQUIRES_NEW, definition.getValue().getPropagationBehavior());
+        assertFalse(definition.getValue().isReadOnly());
+        verify(todoCounterMapper).initialize(1L);
+        verify(transactionManager).commit(any());
+        assertEquals(3, counter.getTotalCount());
+    }
+}
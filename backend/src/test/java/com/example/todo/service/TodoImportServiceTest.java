@@ -0,0 +1,162 @@
+package com.example.todo.service;
+
+import com.example.todo.domain.TodoStatus;
+import com.example.todo.domain.Todos;
+import com.example.todo.dto.request.TodoDataFormat;
+import com.example.todo.dto.response.TodoImportResultDTO;
+import com.example.todo.mapper.TodoMapper;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class TodoImportServiceTest {
+
+    private TodoImportService todoImportService;
+
+    @Mock
+    private TodoMapper todoMapper;
+
+    @Mock
+    private TodoCounterService todoCounterService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    // 배치는 INSERT 후 비워지므로 호출 시점의 내용을 복사해 둠
+    private final List<List<Todos>> insertedBatches = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        todoImportService = new TodoImportService(todoMapper, todoCounterService, new ObjectMapper(),
+                eventPublisher, transactionManager, 2, 100);
+    }
+
+    private void captureInserts() {
+        when(todoMapper.insertAll(anyList())).thenAnswer(invocation -> {
+            List<Todos> batch = invocation.getArgument(0);
+            insertedBatches.add(new ArrayList<>(batch));
+            return batch.size();
+        });
+    }
+
+    @Test
+    @DisplayName("NDJSON 가져오기 - 잘못된 행은 건너뛰고 배치 단위로 추가")
+    void import_ndjson_rejects_invalid_lines() throws Exception {
+        // given
+        captureInserts();
+        String body = "{\"title\":\"a\"}\n"
+                + "not json\n"
+                + "\n"
+                + "{\"title\":\"b\",\"status\":\"done\",\"tags\":[1,2]}\n"
+                + "{\"title\":\"\"}\n"
+                + "{\"title\":\"c\",\"status\":\"WAIT\"}\n"
+                + "{\"title\":\"d\",\"status\":\"IN_PROGRESS\"}\n";
+
+        // when
+        TodoImportResultDTO result = todoImportService.importTodos(1L, TodoDataFormat.NDJSON,
+                new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)));
+
+        // then
+        assertEquals(6, result.getReceived());
+        assertEquals(3, result.getImported());
+        assertEquals(3, result.getRejected());
+        assertEquals(List.of(2L, 5L, 6L), result.getRejectedLines().stream().map(r -> r.getLine()).toList());
+
+        // batch-size=2 이므로 2건 + 1건으로 나누어 추가
+        assertEquals(2, insertedBatches.size());
+        assertEquals(2, insertedBatches.get(0).size());
+        Todos done = insertedBatches.get(0).get(1);
+        assertEquals("b", done.getTitle());
+        assertEquals(TodoStatus.DONE, done.getStatus());
+        assertNull(done.getCompletedAt());
+        assertEquals(1L, done.getUserId());
+
+        verify(todoCounterService).onBulkCreated(1L, new long[]{1, 0, 1}, 2);
+        verify(todoCounterService).onBulkCreated(1L, new long[]{0, 1, 0}, 1);
+        verify(eventPublisher, times(2)).publishEvent(any(Object.class));
+    }
+
+    @Test
+    @DisplayName("CSV 가져오기 - 따옴표 안의 쉼표/줄바꿈 처리")
+    void import_csv_quoted_fields() throws Exception {
+        // given
+        captureInserts();
+        String body = "id,title,status\n"
+                + "1,\"a, \"\"quoted\"\"\",TODO\n"
+                + "2,\"multi\nline\",DONE\n"
+                + "3,,TODO\n";
+
+        // when
+        TodoImportResultDTO result = todoImportService.importTodos(1L, TodoDataFormat.CSV,
+                new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)));
+
+        // then
+        assertEquals(2, result.getImported());
+        assertEquals(1, result.getRejected());
+        assertEquals(5L, result.getRejectedLines().get(0).getLine());
+        assertEquals("a, \"quoted\"", insertedBatches.get(0).get(0).getTitle());
+        assertEquals("multi\nline", insertedBatches.get(0).get(1).getTitle());
+    }
+
+    @Test
+    @DisplayName("CSV 가져오기 - 닫히지 않은 따옴표는 최대 길이에서 끊어 거부하고 다음 줄부터 계속")
+    void import_csv_unclosed_quote_is_bounded() throws Exception {
+        // given
+        captureInserts();
+        StringBuilder body = new StringBuilder("title,status\n\"never closed,TODO\n");
+        for (int i = 0; i < 50; i++) {
+            body.append("filler line ").append(i).append('\n');
+        }
+        body.append("after,DONE\n");
+
+        // when
+        TodoImportResultDTO result = todoImportService.importTodos(1L, TodoDataFormat.CSV,
+                new ByteArrayInputStream(body.toString().getBytes(StandardCharsets.UTF_8)));
+
+        // then (100자를 넘는 지점의 줄까지 버리고 그 다음 줄부터 다시 읽음)
+        assertEquals(2L, result.getRejectedLines().get(0).getLine());
+        assertTrue(result.getImported() > 0);
+        List<Todos> last = insertedBatches.get(insertedBatches.size() - 1);
+        assertEquals("after", last.get(last.size() - 1).getTitle());
+    }
+
+    @Test
+    @DisplayName("JSON 가져오기 - 줄바꿈 없이 이어진 객체도 하나씩 읽고, 너무 긴 레코드는 거부")
+    void import_concatenated_json_with_record_limit() throws Exception {
+        // given
+        captureInserts();
+        String body = "{\"title\":\"a\"}{\"title\":\"b\"} {\"title\":\"" + "x".repeat(200) + "\"}\n"
+                + "{\"title\":\"c\",\"extra\":[" + "1,".repeat(100) + "1]}\n"
+                + "{\"title\":\"d\"}\n";
+
+        // when
+        TodoImportResultDTO result = todoImportService.importTodos(1L, TodoDataFormat.NDJSON,
+                new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)));
+
+        // then
+        assertEquals(3, result.getImported());
+        assertEquals(2, result.getRejected());
+        assertEquals(List.of(1L, 2L), result.getRejectedLines().stream().map(r -> r.getLine()).toList());
+        assertEquals(List.of("a", "b"), insertedBatches.get(0).stream().map(Todos::getTitle).toList());
+        assertEquals("d", insertedBatches.get(1).get(0).getTitle());
+    }
+}
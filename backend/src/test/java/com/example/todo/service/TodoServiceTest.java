@@ -1,9 +1,15 @@
 package com.example.todo.service;
 
+import com.example.todo.common.TodoChangeToken;
 import com.example.todo.domain.TodoStatus;
+import com.example.todo.domain.TodoTombstone;
 import com.example.todo.domain.Todos;
+import com.example.todo.dto.response.CursorPageResponseDTO;
+import com.example.todo.dto.response.TodoChangesResponseDTO;
 import com.example.todo.dto.response.TodoResponseDTO;
 import com.example.todo.mapper.TodoMapper;
+import com.example.todo.mapper.TodoTombstoneMapper;
+import com.example.todo.search.TodoTitleIndex;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -11,8 +17,13 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
-import static org.junit.jupiter.api.Assertions.assertEquals;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -24,6 +35,18 @@ public class TodoServiceTest {
     @Mock
     private TodoMapper todoMapper;
 
+    @Mock
+    private TodoTombstoneMapper todoTombstoneMapper;
+
+    @Mock
+    private TodoCounterService todoCounterService;
+
+    @Mock
+    private TodoTitleIndex todoTitleIndex;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @Test
     @DisplayName("TODO 생성 성공")
     void todo_create_success() {
@@ -33,6 +56,8 @@ public class TodoServiceTest {
 
         // TodoMapper.insert()가 호출될 때 아무것도 하지 않도록 설정
         doNothing().when(todoMapper).insert(any(Todos.class));
+        // 집계 반영과 같은 문장에서 발급한 변경 순번
+        when(todoCounterService.onCreated(userId, TodoStatus.TODO)).thenReturn(11L);
 
         // when
         TodoResponseDTO result = todoService.create(userId, title);
@@ -44,6 +69,7 @@ public class TodoServiceTest {
 
         // 메서드가 정확히 1번만 호출되었는지 확인
         verify(todoMapper, times(1)).insert(any(Todos.class));
+        verify(todoCounterService, times(1)).onCreated(userId, TodoStatus.TODO);
 
         // 매퍼에 전달된 값들이 제대로 들어갔는지 확인
         // ArgumentCaptor: Mockito 메서드에 전달된 실제 인자를 캡처하는 도구
@@ -54,7 +80,92 @@ public class TodoServiceTest {
         assertEquals(userId, capturedTodos.getUserId());
         assertEquals(title, capturedTodos.getTitle());
         assertEquals(TodoStatus.TODO, capturedTodos.getStatus());
+        assertEquals(11L, capturedTodos.getChangeSeq());
+        // CREATED 이벤트와 응답에 생성일이 있어야 함
+        assertNotNull(capturedTodos.getCreatedAt());
+        assertEquals(capturedTodos.getCreatedAt(), result.getCreatedAt());
     }
 
+    @Test
+    @DisplayName("TODO 커서 목록 조회 - 다음 페이지 존재")
+    void todo_cursor_list_has_next() {
+        // given
+        long userId = 1L;
+        int size = 2;
+        LocalDateTime now = LocalDateTime.now();
+
+        // size + 1개를 조회하도록 요청되므로 3개를 반환
+        List<Todos> rows = new ArrayList<>();
+        for (int i = 0; i < size + 1; i++) {
+            Todos todos = new Todos();
+            todos.setId(10L - i);
+            todos.setUserId(userId);
+            todos.setTitle("test" + i);
+            todos.setStatus(TodoStatus.TODO);
+            todos.setCreatedAt(now.minusMinutes(i));
+            rows.add(todos);
+        }
+        when(todoMapper.findByUserIdAfterCursor(userId, null, null, size + 1, null, null, null, null)).thenReturn(rows);
+
+        // when
+        CursorPageResponseDTO<TodoResponseDTO> result = todoService.getCursorList(userId, "", size, null, null, null);
 
+        // then
+        assertEquals(size, result.getData().size());
+        assertTrue(result.isHasNext());
+        assertNotNull(result.getNextCursor());
+    }
+
+    @Test
+    @DisplayName("TODO 변경분 조회 - 수정/삭제를 변경 순번 순서로 합침")
+    void todo_changes_merge_by_change_seq() {
+        // given
+        long userId = 1L;
+        List<Todos> rows = new ArrayList<>();
+        for (long seq : new long[]{3, 6}) {
+            Todos todos = new Todos();
+            todos.setId(seq * 10);
+            todos.setUserId(userId);
+            todos.setTitle("test" + seq);
+            todos.setStatus(TodoStatus.TODO);
+            todos.setChangeSeq(seq);
+            rows.add(todos);
+        }
+        TodoTombstone tombstone = new TodoTombstone();
+        tombstone.setUserId(userId);
+        tombstone.setTodoId(7L);
+        tombstone.setChangeSeq(4);
+        String since = new TodoChangeToken(2, 0).encode();
+        when(todoMapper.findChangedSince(userId, 2, 0, 3)).thenReturn(rows);
+        when(todoTombstoneMapper.findSince(userId, 2, 0, 3)).thenReturn(List.of(tombstone));
+
+        // when
+        TodoChangesResponseDTO result = todoService.getChanges(userId, since, 2);
+
+        // then
+        // 순번 3(수정), 4(삭제)까지만 담고 6은 다음 요청으로 넘김
+        assertEquals(1, result.getChanged().size());
+        assertEquals(30L, result.getChanged().get(0).getId());
+        assertEquals(List.of(7L), result.getDeleted());
+        assertTrue(result.isHasMore());
+        TodoChangeToken next = TodoChangeToken.decode(result.getNextToken());
+        assertEquals(4, next.getChangeSeq());
+        assertEquals(7L, next.getId());
+    }
+
+    @Test
+    @DisplayName("목록/커서/변경분 조회 - size가 1 미만이거나 최대값을 넘으면 조회 없이 IllegalArgumentException(400)")
+    void invalid_size_is_rejected() {
+        // when & then
+        assertThrows(IllegalArgumentException.class, () -> todoService.getCursorList(1L, "", 0, null, null, null));
+        assertThrows(IllegalArgumentException.class, () -> todoService.getCursorList(1L, "", -5, null, null, null));
+        assertThrows(IllegalArgumentException.class, () -> todoService.getCursorList(1L, "", 101, null, null, null));
+        assertThrows(IllegalArgumentException.class, () -> todoService.getList(1L, 1, 0, null, null, null, true));
+        assertThrows(IllegalArgumentException.class, () -> todoService.getList(1L, 1, -1, null, null, null, true));
+        assertThrows(IllegalArgumentException.class, () -> todoService.getList(1L, 0, 10, null, null, null, true));
+        assertThrows(IllegalArgumentException.class, () -> todoService.getList(1L, Integer.MAX_VALUE, 100, null, null, null, true));
+        assertThrows(IllegalArgumentException.class, () -> todoService.getChanges(1L, null, 0));
+        assertThrows(IllegalArgumentException.class, () -> todoService.getChanges(1L, null, 1001));
+        verifyNoInteractions(todoMapper, todoTombstoneMapper, todoCounterService, todoTitleIndex);
+    }
 }
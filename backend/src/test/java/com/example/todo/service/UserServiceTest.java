@@ -4,7 +4,12 @@ import com.example.todo.domain.User;
 import com.example.todo.dto.request.LoginRequestDTO;
 import com.example.todo.dto.request.RegisterRequestDTO;
 import com.example.todo.mapper.UserMapper;
+import com.example.todo.security.EmailExistenceFilter;
 import com.example.todo.security.JwtTokenProvider;
+import com.example.todo.security.PasswordHashExecutor;
+import com.example.todo.security.RefreshTokenStore;
+import com.example.todo.security.UserExistenceCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -14,7 +19,9 @@ import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.*;
 
 // JUnit 5와 Mockito를 함께 사용하기 위한 설정
@@ -32,10 +39,23 @@ public class UserServiceTest {
     @Mock
     private JwtTokenProvider jwtTokenProvider;
 
+    @Mock
+    private UserExistenceCache userExistenceCache;
+
+    @Mock
+    private RefreshTokenStore refreshTokenStore;
+
+    @Mock
+    private EmailExistenceFilter emailExistenceFilter;
+
     // 실제 객체, 실제로 필요한 경우에만 Mock이 아닌 Spy로 생성
     @Spy
     private BCryptPasswordEncoder passwordEncoder;
 
+    // 해시 작업을 실제로 실행하는 작은 풀
+    @Spy
+    private PasswordHashExecutor passwordHashExecutor = new PasswordHashExecutor(1, 10, 5000, 1, new SimpleMeterRegistry());
+
     @Test
     @DisplayName("회원가입 실패 - 중복된 이메일")
     void register_fail_when_email_is_duplicated() {
@@ -46,7 +66,8 @@ public class UserServiceTest {
 
         // when $ then 무엇을 할 때 어떤 결과가 나와야하는가
         // userMapper.findByEmail() 메서드가 "email@email.com"로 호출될 때
-        // 가짜 User객체를 반환
+        // 가짜 User객체를 반환 (이메일 필터가 "있을 수 있음"이라고 해서 DB로 확인하는 경우)
+        when(emailExistenceFilter.mightContain("email@email.com")).thenReturn(true);
         when(userMapper.findByEmail("email@email.com")).thenReturn(new User());
 
         // assertThrows 특정 예외가 발생하는지 검증
@@ -67,6 +88,7 @@ public class UserServiceTest {
         registerRequestDTO.setPassword("password");
 
         // 어떤 문자열이든 파라미터로 받아서 호출되면 null 반환해라
+        when(emailExistenceFilter.mightContain(anyString())).thenReturn(true);
         when(userMapper.findByEmail(anyString())).thenReturn(null);
         // doNoting() 반환값이 void 인 메서드의 행동을 정의할 때 사용(아무것도 하지마라)
         // userMapper의 insert가 어떤 User클래스를 받아서 호출되든 아무것도 하지말아라
@@ -80,6 +102,54 @@ public class UserServiceTest {
         verify(passwordEncoder, times(1)).encode("password");
         // userMapper 객체의 insert함수가 어떤 User객체든 매개변수로 왔을 때 정확히 1번 호출 되었는지 검증
         verify(userMapper, times(1)).insert(any(User.class));
+        // 가입한 이메일을 필터에 추가
+        verify(emailExistenceFilter, times(1)).add("email@email.com");
+    }
+
+    @Test
+    @DisplayName("회원가입 성공 - 이메일 필터에 없으면 중복 조회 생략")
+    void register_skips_lookup_when_filter_says_absent() {
+        // given
+        RegisterRequestDTO registerRequestDTO = new RegisterRequestDTO();
+        registerRequestDTO.setEmail("new@email.com");
+        registerRequestDTO.setPassword("password");
+        when(emailExistenceFilter.mightContain("new@email.com")).thenReturn(false);
+
+        // when
+        userService.register(registerRequestDTO);
+
+        // then
+        verify(userMapper, never()).findByEmail(anyString());
+        verify(userMapper, times(1)).insert(any(User.class));
+    }
+
+    @Test
+    @DisplayName("이메일 확인 - 필터에 없으면 DB를 조회하지 않고 사용 가능")
+    void email_available_skips_lookup_when_filter_says_absent() {
+        // given
+        when(emailExistenceFilter.mightContain("new@email.com")).thenReturn(false);
+
+        // when
+        boolean available = userService.isEmailAvailable("new@email.com");
+
+        // then
+        assertTrue(available);
+        verify(userMapper, never()).findByEmail(anyString());
+    }
+
+    @Test
+    @DisplayName("이메일 확인 - 필터에 있을 수 있으면 DB로 확인")
+    void email_available_checks_database_when_filter_might_contain() {
+        // given
+        when(emailExistenceFilter.mightContain("other@email.com")).thenReturn(true);
+        when(userMapper.findByEmail("other@email.com")).thenReturn(new User());
+
+        // when
+        boolean available = userService.isEmailAvailable("other@email.com");
+
+        // then
+        assertFalse(available);
+        verify(emailExistenceFilter, times(1)).recordLookup(true);
     }
 
     @Test
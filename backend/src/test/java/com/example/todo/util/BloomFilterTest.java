@@ -0,0 +1,55 @@
+package com.example.todo.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BloomFilterTest {
+
+    @Test
+    @DisplayName("블룸 필터 - 추가한 값은 항상 있음, 오탐률은 설정값 근처")
+    void bloom_filter_has_no_false_negatives() {
+        // given
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put("user" + i + "@example.com");
+        }
+
+        // when
+        int falsePositives = 0;
+        for (int i = 0; i < 10_000; i++) {
+            assertTrue(filter.mightContain("user" + i + "@example.com"));
+            if (filter.mightContain("other" + i + "@example.com")) {
+                falsePositives++;
+            }
+        }
+
+        // then
+        assertTrue(falsePositives < 300, "false positives: " + falsePositives);
+        assertEquals(0.01, filter.expectedFpp(), 0.01);
+        assertEquals(10_000, filter.insertions());
+    }
+
+    @Test
+    @DisplayName("비트 위치 - 2^31비트보다 큰 필터에서도 범위 안의 큰 위치까지 사용")
+    void index_uses_bits_beyond_int_range() {
+        // given
+        long bitSize = 1L << 40;
+        long max = 0;
+
+        // when
+        for (int n = 0; n < 1_000; n++) {
+            long h1 = n * 0x9e3779b97f4a7c15L;
+            long h2 = n * 0xc4ceb9fe1a85ec53L;
+            for (int i = 1; i <= 7; i++) {
+                long bit = BloomFilter.index(h1, h2, i, bitSize);
+                assertTrue(bit >= 0 && bit < bitSize);
+                max = Math.max(max, bit);
+            }
+        }
+
+        // then
+        assertTrue(max > Integer.MAX_VALUE, "max bit: " + max);
+    }
+}
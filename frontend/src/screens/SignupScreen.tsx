@@ -18,6 +18,24 @@ export default function SignupScreen({ navigation }: SignupScreenProps) {
   const [email, setEmail] = useState("");
   const [password, setPassword] = useState("");
   const [confirmPassword, setConfirmPassword] = useState("");
+  const [emailMessage, setEmailMessage] = useState("");
+
+  // 이메일 입력을 마치면 사용 가능 여부 확인 (최종 확인은 가입 요청에서 서버가 다시 함)
+  const checkEmail = async () => {
+    if (!email) {
+      return setEmailMessage("");
+    }
+    try {
+      const res = await apiClient(
+        `/api/auth/email-available?email=${encodeURIComponent(email)}`
+      );
+      setEmailMessage(
+        res.data.available ? "사용 가능한 이메일입니다." : "이미 사용 중인 이메일입니다."
+      );
+    } catch (error: any) {
+      setEmailMessage(error.message || "");
+    }
+  };
 
   const handleSignup = async () => {
     if (!email || !password || !confirmPassword) {
@@ -51,10 +69,15 @@ export default function SignupScreen({ navigation }: SignupScreenProps) {
         style={styles.input}
         placeholder="이메일을 입력하세요."
         value={email}
-        onChangeText={setEmail}
+        onChangeText={(text) => {
+          setEmail(text);
+          setEmailMessage("");
+        }}
+        onBlur={checkEmail}
         keyboardType="email-address"
         autoCapitalize="none"
       />
+      {emailMessage ? <Text style={styles.helperText}>{emailMessage}</Text> : null}
       <TextInput
         style={styles.input}
         placeholder="비밀번호를 입력하세요"
@@ -98,6 +121,12 @@ const styles = StyleSheet.create({
     fontSize: 16,
     marginBottom: 15,
   },
+  helperText: {
+    fontSize: 13,
+    color: "#666666",
+    marginTop: -10,
+    marginBottom: 15,
+  },
   linkText: {
     color: "#007BFF",
     textAlign: "center",